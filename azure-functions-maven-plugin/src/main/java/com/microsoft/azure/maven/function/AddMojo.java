@@ -12,6 +12,7 @@ import com.microsoft.azure.toolkit.lib.legacy.function.template.BindingConfigura
 import com.microsoft.azure.toolkit.lib.legacy.function.template.BindingTemplate;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionSettingTemplate;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionTemplate;
+import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionTemplateCatalog;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.TemplateResources;
 import com.microsoft.azure.toolkit.lib.legacy.function.utils.FunctionUtils;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +39,6 @@ import java.util.Optional;
 import java.util.Scanner;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.lang.System.out;
@@ -148,9 +148,9 @@ public class AddMojo extends AbstractFunctionMojo {
     protected void doExecute() throws AzureExecutionException {
         try {
             final FunctionExtensionVersion bundleVersion = getBundleVersion();
-            final List<FunctionTemplate> templates = loadAllFunctionTemplates(bundleVersion);
+            final List<String> templateNames = loadFunctionTemplateNames(bundleVersion);
 
-            final FunctionTemplate template = getFunctionTemplate(templates);
+            final FunctionTemplate template = getFunctionTemplate(templateNames);
 
             final BindingTemplate bindingTemplate = FunctionUtils.loadBindingTemplate(template.getBindingConfiguration());
             final Map params = prepareRequiredParameters(template, bindingTemplate);
@@ -166,27 +166,25 @@ public class AddMojo extends AbstractFunctionMojo {
     //endregion
 
     //region Load templates
-    protected List<FunctionTemplate> loadAllFunctionTemplates(FunctionExtensionVersion bundleVersion) throws AzureExecutionException {
+    protected List<String> loadFunctionTemplateNames(FunctionExtensionVersion bundleVersion) throws AzureExecutionException {
         log.info("");
         log.info(LOAD_TEMPLATES);
-        final List<FunctionTemplate> templates = FunctionUtils.loadAllFunctionTemplates()
-                .stream()
-                .filter(template -> ObjectUtils.anyNull(bundleVersion, template.getSupportedExtensionVersions()) || template.getSupportedExtensionVersions().contains(bundleVersion))
-                .collect(Collectors.toList());
+        // only the index of templates is loaded here, the selected template is parsed on demand.
+        final List<String> templateNames = FunctionTemplateCatalog.getInstance().getTemplateNames(bundleVersion);
         log.info(LOAD_TEMPLATES_DONE);
-        return templates;
+        return templateNames;
     }
 
     //endregion
 
     //region Get function template
-    protected FunctionTemplate getFunctionTemplate(final List<FunctionTemplate> templates) throws IOException, AzureExecutionException, MojoFailureException {
+    protected FunctionTemplate getFunctionTemplate(final List<String> templateNames) throws IOException, AzureExecutionException, MojoFailureException {
         log.info("");
         log.info(FIND_TEMPLATE);
 
         if (settings != null && !settings.isInteractiveMode()) {
             assureInputInBatchMode(getFunctionTemplate(),
-                str -> getTemplateNames(templates)
+                str -> templateNames
                             .stream()
                             .filter(Objects::nonNull)
                             .anyMatch(o -> o.equalsIgnoreCase(str)),
@@ -195,24 +193,21 @@ public class AddMojo extends AbstractFunctionMojo {
         } else {
             assureInputFromUser("template for new function",
                     getFunctionTemplate(),
-                    getTemplateNames(templates),
+                    templateNames,
                     this::setFunctionTemplate);
         }
-        final FunctionTemplate result = findTemplateByName(templates, getFunctionTemplate());
+        final FunctionTemplate result = findTemplateByName(templateNames, getFunctionTemplate());
         getTelemetryProxy().addDefaultProperty(TRIGGER_TYPE, Optional.ofNullable(result.getBindingConfiguration()).map(BindingConfiguration::getType).orElse(null));
         return result;
     }
 
-    protected List<String> getTemplateNames(final List<FunctionTemplate> templates) {
-        return templates.stream().map(t -> t.getMetadata().getName()).collect(Collectors.toList());
-    }
-
-    protected FunctionTemplate findTemplateByName(final List<FunctionTemplate> templates, final String templateName)
+    protected FunctionTemplate findTemplateByName(final List<String> templateNames, final String templateName)
             throws AzureExecutionException {
         log.info("Selected function template: " + templateName);
-        final Optional<FunctionTemplate> template = templates.stream()
-                .filter(t -> t.getMetadata().getName().equalsIgnoreCase(templateName))
-                .findFirst();
+        final Optional<FunctionTemplate> template = templateNames.stream()
+                .filter(name -> name.equalsIgnoreCase(templateName))
+                .findFirst()
+                .map(FunctionUtils::loadFunctionTemplate);
 
         if (template.isPresent()) {
             log.info(FIND_TEMPLATE_DONE + templateName);
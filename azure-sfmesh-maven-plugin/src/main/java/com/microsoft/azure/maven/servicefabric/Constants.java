@@ -44,4 +44,6 @@ public class Constants{
     public static final String DEFAULT_ENVIRONMENTAL_VARIABLES = "NO_ENVIRONMENTAL_VARS";
     public static final String DEFAULT_PEM_FILE_PATH = "NO_PEM_PATH";
     public static final String DEFAULT_SECRET_CONTENT_TYPE = "text/plain";
+    public static final long DEFAULT_COMMAND_TIMEOUT_SECONDS = 30 * 60;
+    public static final String DEFAULT_DEPLOYMENT_CONCURRENCY = "4";
 }
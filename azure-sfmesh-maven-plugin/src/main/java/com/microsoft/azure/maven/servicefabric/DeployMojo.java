@@ -13,6 +13,24 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
 /**
  * Goal which deploys application to mesh
  */
@@ -40,8 +58,29 @@ public class DeployMojo extends AbstractMojo {
     @Parameter(property = "location", defaultValue = Constants.DEFAULT_LOCATION)
     String location;
 
+    /**
+     * Max number of independent resources deployed in parallel
+    */
+    @Parameter(property = "deploymentConcurrency", defaultValue = Constants.DEFAULT_DEPLOYMENT_CONCURRENCY)
+    int deploymentConcurrency;
+
     public Log logger  = getLog();
 
+    // environment variables (e.g. PATH) overridden for the az commands, only set by tests.
+    Map<String, String> env = Collections.emptyMap();
+
+    // resources of a stage only depend on resources of earlier stages.
+    private static final Map<String, Integer> RESOURCE_STAGES = new LinkedHashMap<String, Integer>() {
+        {
+            put("secret", 0);
+            put("volume", 0);
+            put("network", 0);
+            put("secretValue", 1);
+            put("application", 2);
+            put("gateway", 3);
+        }
+    };
+
     @Override
     public void execute() throws MojoFailureException {
         final String serviceFabricResourcesDirectory = Utils.getServicefabricResourceDirectory(logger, project);
@@ -61,12 +100,120 @@ public class DeployMojo extends AbstractMojo {
 
         // Create resource group
         logger.info("Creating Resource Group");
-        Utils.executeCommand(logger, String.format("az group create --name %s --location %s", resourceGroup, location));
+        Utils.executeCommand(logger, String.format("az group create --name %s --location %s", resourceGroup, location), env);
         // Perform deployment
         logger.info("Performing deployment");
+        deployResources();
+        TelemetryHelper.sendEvent(TelemetryEventType.DEPLOYMESH, String.format("Deployed application on mesh"), logger);
+    }
+
+    void deployResources() throws MojoFailureException {
+        final List<List<List<String>>> stages = deploymentConcurrency > 1 ? planStages() : null;
+        if (stages == null) {
+            deploy(inputYamlFiles);
+        } else {
+            for (final List<List<String>> stage : stages) {
+                deployInParallel(stage);
+            }
+        }
+    }
+
+    private void deploy(String yamlFiles) throws MojoFailureException {
         Utils.executeCommand(logger, String.format("az mesh deployment create --resource-group %s " +
             "--input-yaml-files %s  --parameters \"{'location': {'value': '%s'}}\"", resourceGroup,
-            inputYamlFiles, location));
-        TelemetryHelper.sendEvent(TelemetryEventType.DEPLOYMESH, String.format("Deployed application on mesh"), logger);
+            yamlFiles, location), env);
+    }
+
+    private void deployInParallel(List<List<String>> resources) throws MojoFailureException {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(deploymentConcurrency, resources.size()));
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (final List<String> files : resources) {
+                final Callable<Void> task = () -> {
+                    deploy(String.join(",", files));
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            // report every failed resource of the stage, the first failure carries the others as suppressed.
+            MojoFailureException failure = null;
+            for (final Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    final MojoFailureException cause = e.getCause() instanceof MojoFailureException ? (MojoFailureException) e.getCause() :
+                        new MojoFailureException("Error while deploying resources", e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MojoFailureException("Interrupted while deploying resources");
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Groups the resource files into stages of independent resources, fragments of the same resource (e.g. app and
+     * service definitions of an application) are deployed together.
+     *
+     * @return null if any resource file can not be recognized, then everything is deployed in one deployment
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<List<String>>> planStages() throws MojoFailureException {
+        final Map<Integer, Map<String, List<String>>> stages = new TreeMap<>();
+        for (final String file : listYamlFiles()) {
+            final Map<String, Object> yaml;
+            try {
+                yaml = Utils.stringToYaml(logger, new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8));
+            } catch (IOException | MojoFailureException e) {
+                logger.debug(String.format("Failed to read resource file %s", file));
+                return null;
+            }
+            if (yaml == null || yaml.size() != 1 || !RESOURCE_STAGES.containsKey(yaml.keySet().iterator().next())) {
+                return null;
+            }
+            final String kind = yaml.keySet().iterator().next();
+            final Object definition = yaml.get(kind);
+            final Object name = definition instanceof Map ? ((Map<String, Object>) definition).get("name") : null;
+            if (name == null) {
+                return null;
+            }
+            stages.computeIfAbsent(RESOURCE_STAGES.get(kind), k -> new LinkedHashMap<>())
+                .computeIfAbsent(kind + ":" + name, k -> new ArrayList<>()).add(file);
+        }
+        final List<List<List<String>>> result = new ArrayList<>();
+        stages.values().forEach(stage -> result.add(new ArrayList<>(stage.values())));
+        return result;
+    }
+
+    private List<String> listYamlFiles() throws MojoFailureException {
+        final List<String> files = new ArrayList<>();
+        for (final String entry : inputYamlFiles.split(",")) {
+            final Path path = Paths.get(entry.trim());
+            if (!Files.isDirectory(path)) {
+                files.add(path.toString());
+                continue;
+            }
+            try (final Stream<Path> paths = Files.walk(path)) {
+                paths.filter(Files::isRegularFile)
+                    .map(Path::toString)
+                    .filter(p -> p.endsWith(".yaml") || p.endsWith(".yml"))
+                    .sorted()
+                    .forEach(files::add);
+            } catch (IOException e) {
+                logger.error(e);
+                throw new MojoFailureException(String.format("Error while listing resource files in %s", entry));
+            }
+        }
+        return files;
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs a command through the system shell, pumping STDOUT and STDERR concurrently while the process runs,
+ * so that processes with large output never block on a full pipe buffer.
+ */
+public class ProcessRunner {
+
+    private final Log logger;
+    private final long timeoutInSeconds;
+    private final Map<String, String> env;
+
+    public ProcessRunner(Log logger, long timeoutInSeconds) {
+        this(logger, timeoutInSeconds, Collections.emptyMap());
+    }
+
+    /**
+     * @param env overrides environment variables (e.g. PATH) of the commands
+     */
+    ProcessRunner(Log logger, long timeoutInSeconds, Map<String, String> env) {
+        this.logger = logger;
+        this.timeoutInSeconds = timeoutInSeconds;
+        this.env = env;
+    }
+
+    public Result run(String command) throws MojoFailureException {
+        logger.info(String.format("Executing command %s", command));
+        final ProcessBuilder builder = Utils.isWindows() ?
+            new ProcessBuilder("cmd.exe", "/C", command) : new ProcessBuilder("sh", "-c", command);
+        builder.environment().putAll(env);
+        final Process process;
+        try {
+            process = builder.start();
+        } catch (IOException e) {
+            logger.error(e);
+            throw new MojoFailureException(String.format("Error while running the %s command", command));
+        }
+        try {
+            process.getOutputStream().close(); // no input is expected
+        } catch (IOException e) {
+            logger.debug(e);
+        }
+        final StringBuilder stdout = new StringBuilder();
+        final StringBuilder stderr = new StringBuilder();
+        final Thread stdoutPump = pump(process.getInputStream(), line -> {
+            logger.debug(String.format("STDOUT: %s", line));
+            stdout.append(line).append(System.lineSeparator());
+        });
+        final Thread stderrPump = pump(process.getErrorStream(), line -> stderr.append(line).append(System.lineSeparator()));
+        try {
+            if (!process.waitFor(timeoutInSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new MojoFailureException(String.format("Command %s did not finish in %d seconds", command, timeoutInSeconds));
+            }
+            // pumps finish once the streams reach EOF, which also makes their output visible to this thread.
+            stdoutPump.join();
+            stderrPump.join();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            logger.error(e);
+            throw new MojoFailureException(String.format("Interrupted while running command %s", command));
+        }
+        return new Result(command, process.exitValue(), stdout.toString().trim(), stderr.toString().trim());
+    }
+
+    private static Thread pump(InputStream stream, Consumer<String> consumer) {
+        final Thread thread = new Thread(() -> {
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    consumer.accept(line);
+                }
+            } catch (IOException e) {
+                // stream is closed when the process is destroyed.
+            }
+        }, "sfmesh-process-pump");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    public static class Result {
+        private final String command;
+        private final int exitCode;
+        private final String stdout;
+        private final String stderr;
+
+        Result(String command, int exitCode, String stdout, String stderr) {
+            this.command = command;
+            this.exitCode = exitCode;
+            this.stdout = stdout;
+            this.stderr = stderr;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public String getStdout() {
+            return stdout;
+        }
+
+        public String getStderr() {
+            return stderr;
+        }
+    }
+}
@@ -10,7 +10,6 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
-import org.codehaus.plexus.util.IOUtil;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
@@ -21,6 +20,7 @@ import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 public class Utils {
@@ -69,39 +69,23 @@ public class Utils {
     }
 
     public static String executeCommand(Log logger, String command) throws MojoFailureException{
-        try {
-            logger.info(String.format("Executing command %s", command));
-            final Process p;
-            if (Utils.isWindows()){
-                p = Runtime.getRuntime().exec("cmd.exe /C" + command);
+        return executeCommand(logger, command, Collections.emptyMap());
+    }
+
+    static String executeCommand(Log logger, String command, Map<String, String> env) throws MojoFailureException{
+        final ProcessRunner.Result result = new ProcessRunner(logger, Constants.DEFAULT_COMMAND_TIMEOUT_SECONDS, env).run(command);
+        final String stderr = result.getStderr();
+        if (stderr != null && stderr.length() > 0){
+            if (result.getExitCode() != 0){
+                logger.error(String.format("Process exited with exit code %d", result.getExitCode()));
+                logger.error(String.format("If STDERR: %s", stderr));
+                throw new MojoFailureException(String.format("Error while " +
+                    "running the %s command", command));
             } else {
-                p = Runtime.getRuntime().exec(command);
-            }
-            p.waitFor();
-            final int exitCode = p.exitValue();
-            final String stderr = IOUtil.toString(p.getErrorStream(), "UTF-8");
-            final String stdout = IOUtil.toString(p.getInputStream(), "UTF-8");
-            logger.debug(String.format("STDOUT: %s", stdout));
-            if (stderr != null && stderr.length() > 0){
-                if (exitCode != 0){
-                    logger.error(String.format("Process exited with exit code %d", exitCode));
-                    logger.error(String.format("If STDERR: %s", stderr));
-                    throw new MojoFailureException(String.format("Error while " +
-                        "running the %s command", command));
-                } else {
-                    logger.info(String.format("Else STDERR: %s", stderr));
-                }
+                logger.info(String.format("Else STDERR: %s", stderr));
             }
-            return stdout;
-        } catch (IOException e){
-            logger.error(e);
-            throw new MojoFailureException(String.format("Error while " +
-                "running the %s command", command));
-        } catch (InterruptedException e) {
-            logger.error(e);
-            throw new MojoFailureException(String.format("Interrupted while " +
-                "running command %s", command));
         }
+        return result.getStdout();
     }
 
     public static void checkSfctlInstallation(Log logger) throws MojoFailureException{
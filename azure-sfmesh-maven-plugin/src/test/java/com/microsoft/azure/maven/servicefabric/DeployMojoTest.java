@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * runs the staged parallel deployment of {@link DeployMojo} against a fake `az` on PATH, which records when the
+ * deployment of each resource starts and ends, and fails the deployment of resources whose file name contains "bad".
+ */
+public class DeployMojoTest {
+    private static final String FAKE_AZ = "#!/bin/sh\n" +
+        "log=\"$(dirname \"$0\")/deployments\"\n" +
+        "files=''\n" +
+        "prev=''\n" +
+        "for arg in \"$@\"; do\n" +
+        "  [ \"$prev\" = '--input-yaml-files' ] && files=\"$arg\"\n" +
+        "  prev=\"$arg\"\n" +
+        "done\n" +
+        "[ -z \"$files\" ] && exit 0\n" +
+        "names=$(echo \"$files\" | tr ',' '\\n' | xargs -n 1 basename | tr '\\n' ' ')\n" +
+        "echo \"start $names\" >> \"$log\"\n" +
+        "sleep 0.2\n" +
+        "echo \"end $names\" >> \"$log\"\n" +
+        "case \"$names\" in *bad*) echo \"failed to deploy $names\" >&2; exit 1;; esac\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File bin;
+    private File resources;
+    private Map<String, String> env;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeFalse(Utils.isWindows());
+        this.bin = folder.newFolder("bin");
+        this.resources = folder.newFolder("resources");
+        ProcessRunnerTest.fakeCommand(bin, "az", FAKE_AZ);
+        this.env = new HashMap<>();
+        this.env.put("PATH", bin + File.pathSeparator + System.getenv("PATH"));
+    }
+
+    @Test(timeout = 60000)
+    public void resourcesAreDeployedStageByStage() throws IOException, MojoFailureException {
+        resource("secret.yaml", "secret", "password");
+        resource("volume.yaml", "volume", "files");
+        resource("network.yaml", "network", "net");
+        resource("secret-value.yaml", "secretValue", "password/v1");
+        resource("app.yaml", "application", "app");
+        resource("service.yaml", "application", "app");
+        resource("gateway.yaml", "gateway", "gw");
+
+        newMojo().deployResources();
+
+        final List<String> log = deployments();
+        Assert.assertEquals(log.toString(), 12, log.size());
+        final List<List<String>> stages = Arrays.asList(
+            Arrays.asList("secret.yaml", "volume.yaml", "network.yaml"),
+            Collections.singletonList("secret-value.yaml"),
+            Collections.singletonList("app.yaml service.yaml"),
+            Collections.singletonList("gateway.yaml"));
+        for (int i = 0; i < stages.size(); i++) {
+            for (final String earlier : stages.get(i)) {
+                final int end = log.indexOf("end " + earlier);
+                Assert.assertTrue(log.toString(), end >= 0);
+                for (int j = i + 1; j < stages.size(); j++) {
+                    for (final String later : stages.get(j)) {
+                        final int start = log.indexOf("start " + later);
+                        Assert.assertTrue(String.format("%s before %s: %s", earlier, later, log), start > end);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void allFailuresOfStageAreReported() throws IOException {
+        resource("bad-secret.yaml", "secret", "password");
+        resource("bad-volume.yaml", "volume", "files");
+        resource("network.yaml", "network", "net");
+        resource("app.yaml", "application", "app");
+
+        try {
+            newMojo().deployResources();
+            Assert.fail("deployment is expected to fail");
+        } catch (MojoFailureException e) {
+            Assert.assertEquals(1, e.getSuppressed().length);
+            final String messages = e.getMessage() + e.getSuppressed()[0].getMessage();
+            Assert.assertTrue(messages, messages.contains("bad-secret.yaml"));
+            Assert.assertTrue(messages, messages.contains("bad-volume.yaml"));
+        }
+        final List<String> log = deployments();
+        Assert.assertTrue(log.toString(), log.contains("end network.yaml"));
+        Assert.assertFalse(log.toString(), log.contains("start app.yaml"));
+    }
+
+    private DeployMojo newMojo() {
+        final DeployMojo mojo = new DeployMojo();
+        mojo.inputYamlFiles = resources.getAbsolutePath();
+        mojo.resourceGroup = "rg";
+        mojo.location = "eastus";
+        mojo.deploymentConcurrency = 4;
+        mojo.env = env;
+        return mojo;
+    }
+
+    private void resource(String file, String kind, String name) throws IOException {
+        final String yaml = String.format("%s:%n  schemaVersion: 1.0.0-preview2%n  name: %s%n", kind, name);
+        Files.write(new File(resources, file).toPath(), yaml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> deployments() throws IOException {
+        final List<String> lines = Files.readAllLines(new File(bin, "deployments").toPath(), StandardCharsets.UTF_8);
+        lines.replaceAll(String::trim);
+        return lines;
+    }
+}
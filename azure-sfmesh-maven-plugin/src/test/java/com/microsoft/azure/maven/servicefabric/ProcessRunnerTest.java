@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.maven.servicefabric;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * runs {@link ProcessRunner} against fake `sfctl` and `az` commands on PATH.
+ */
+public class ProcessRunnerTest {
+    private static final int LINES = 20000;
+    // ~2MB on STDOUT and STDERR, far beyond the pipe buffer of the OS.
+    private static final String FAKE_SFCTL = "#!/bin/sh\n" +
+        "i=0\n" +
+        "while [ $i -lt " + LINES + " ]; do\n" +
+        "  echo \"line $i of the cluster description ..........................................................\"\n" +
+        "  echo \"warning $i of the cluster description .......................................................\" >&2\n" +
+        "  i=$((i + 1))\n" +
+        "done\n";
+    private static final String FAKE_AZ = "#!/bin/sh\n" +
+        "exec sleep 30\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Log logger = new SystemStreamLog();
+    private Map<String, String> env;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeFalse(Utils.isWindows());
+        final File bin = folder.newFolder("bin");
+        fakeCommand(bin, "sfctl", FAKE_SFCTL);
+        fakeCommand(bin, "az", FAKE_AZ);
+        this.env = new HashMap<>();
+        this.env.put("PATH", bin + File.pathSeparator + System.getenv("PATH"));
+    }
+
+    @Test(timeout = 60000)
+    public void outputLargerThanPipeBufferIsPumped() throws MojoFailureException {
+        final ProcessRunner.Result result = new ProcessRunner(logger, 60, env).run("sfctl cluster show");
+        Assert.assertEquals(0, result.getExitCode());
+        Assert.assertEquals(LINES, result.getStdout().split("\\R").length);
+        Assert.assertEquals(LINES, result.getStderr().split("\\R").length);
+        Assert.assertTrue(result.getStdout().startsWith("line 0 "));
+        Assert.assertTrue(result.getStderr().startsWith("warning 0 "));
+    }
+
+    @Test(timeout = 20000)
+    public void processIsKilledAfterTimeout() {
+        final long start = System.nanoTime();
+        try {
+            new ProcessRunner(logger, 1, env).run("az mesh deployment create");
+            Assert.fail("command is expected to time out");
+        } catch (MojoFailureException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("did not finish in 1 seconds"));
+        }
+        Assert.assertTrue((System.nanoTime() - start) / 1_000_000_000L < 10);
+    }
+
+    static void fakeCommand(File bin, String name, String script) throws IOException {
+        final File command = new File(bin, name);
+        Files.write(command.toPath(), script.getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(command.setExecutable(true));
+    }
+}
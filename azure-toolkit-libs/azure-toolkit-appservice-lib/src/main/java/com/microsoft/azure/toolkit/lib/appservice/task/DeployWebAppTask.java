@@ -23,6 +23,7 @@ import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.common.operation.OperationContext;
 import com.microsoft.azure.toolkit.lib.common.task.AzureTask;
+import com.microsoft.azure.toolkit.lib.common.task.AzureTaskManager;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.commons.collections4.CollectionUtils;
@@ -36,8 +37,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -136,8 +137,8 @@ public class DeployWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
             return false;
         }
         final AtomicReference<CsmDeploymentStatus> status = new AtomicReference<>(null);
-        final Timer timer = Objects.isNull(deploymentStatusStream) ? null : new Timer();
-        Optional.ofNullable(timer).ifPresent(t -> t.schedule(new TrackDeploymentStatusTask(status), 0, DEPLOYMENT_STATUS_DISPLAY_REFRESH_INTERVAL));
+        final ScheduledFuture<?> timer = Objects.isNull(deploymentStatusStream) ? null : AzureTaskManager.getExecutors().getTimer()
+            .scheduleAtFixedRate(new TrackDeploymentStatusTask(status), 0, DEPLOYMENT_STATUS_DISPLAY_REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
         final CsmDeploymentStatus result = Mono.fromCallable(() -> {
                 final CsmDeploymentStatus deploymentStatus = webApp.getDeploymentStatus(trackId);
                 status.set(deploymentStatus);
@@ -148,7 +149,7 @@ public class DeployWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
             .repeat(deploymentStatusMaxRefreshTimes)
             .takeUntil(csmDeploymentStatus -> !csmDeploymentStatus.getStatus().isRunning())
             .blockLast();
-        Optional.ofNullable(timer).ifPresent(Timer::cancel);
+        Optional.ofNullable(timer).ifPresent(t -> t.cancel(false));
         final DeploymentBuildStatus buildStatus = Optional.ofNullable(result).map(CsmDeploymentStatus::getStatus).orElse(null);
         if (buildStatus == null || buildStatus.isSucceed()) {
             return true;
@@ -187,7 +188,7 @@ public class DeployWebAppTask extends AzureTask<WebAppBase<?, ?, ?>> {
     }
 
     @RequiredArgsConstructor
-    private class TrackDeploymentStatusTask extends TimerTask{
+    private class TrackDeploymentStatusTask implements Runnable {
         private final AtomicReference<CsmDeploymentStatus> status;
         private final AtomicInteger times = new AtomicInteger(0);
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.legacy.function.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.legacy.function.bindings.BindingEnum;
+import com.microsoft.azure.toolkit.lib.legacy.function.configurations.FunctionExtensionVersion;
+import com.microsoft.azure.toolkit.lib.legacy.function.utils.FunctionUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * index of the bundled function templates by name and trigger type, the template itself (with its binding template)
+ * is only bound from json when it's requested.
+ */
+public class FunctionTemplateCatalog {
+    private static final String LOAD_TEMPLATES_FAIL = "Failed to load all function templates.";
+    private static FunctionTemplateCatalog instance;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, FunctionTemplate> templates = new ConcurrentHashMap<>();
+
+    @Nonnull
+    public static synchronized FunctionTemplateCatalog getInstance() {
+        if (Objects.isNull(instance)) {
+            instance = new FunctionTemplateCatalog();
+        }
+        return instance;
+    }
+
+    private FunctionTemplateCatalog() {
+        try (final InputStream is = FunctionTemplateCatalog.class.getResourceAsStream("/templates.json")) {
+            final JsonNode root = this.mapper.readTree(Objects.requireNonNull(is));
+            for (final JsonNode node : root.path("templates")) {
+                final String name = node.path("metadata").path("name").asText(null);
+                if (StringUtils.isNotBlank(name)) {
+                    this.entries.putIfAbsent(name.toLowerCase(), new Entry(name, getTriggerType(node), getSupportedExtensionVersions(node), node));
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            throw new AzureToolkitRuntimeException(LOAD_TEMPLATES_FAIL, e);
+        }
+    }
+
+    @Nonnull
+    public List<Entry> getEntries() {
+        return new ArrayList<>(this.entries.values());
+    }
+
+    /**
+     * @param version extension bundle version, templates of all versions are returned if it's null.
+     */
+    @Nonnull
+    public List<String> getTemplateNames(@Nullable FunctionExtensionVersion version) {
+        return this.entries.values().stream().filter(e -> e.isSupported(version)).map(Entry::getName).collect(Collectors.toList());
+    }
+
+    @Nonnull
+    public List<String> getTemplateNamesByTriggerType(@Nonnull String triggerType) {
+        return this.entries.values().stream().filter(e -> StringUtils.equalsIgnoreCase(e.getTriggerType(), triggerType))
+            .map(Entry::getName).collect(Collectors.toList());
+    }
+
+    @Nullable
+    public FunctionTemplate getTemplate(@Nonnull String name) {
+        final Entry entry = this.entries.get(name.toLowerCase());
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        return this.templates.computeIfAbsent(entry.getName().toLowerCase(), k -> this.bind(entry.node));
+    }
+
+    @Nonnull
+    public List<FunctionTemplate> getAllTemplates() {
+        return this.entries.keySet().stream().map(this::getTemplate).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private FunctionTemplate bind(@Nonnull JsonNode node) {
+        try {
+            final FunctionTemplate template = this.mapper.treeToValue(node, FunctionTemplate.class);
+            Optional.ofNullable(FunctionUtils.loadBindingsTemplate())
+                .map(bindings -> bindings.getBindingTemplate(template.getBindingConfiguration()))
+                .ifPresent(template::setBinding);
+            return template;
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(LOAD_TEMPLATES_FAIL, e);
+        }
+    }
+
+    @Nullable
+    private static String getTriggerType(@Nonnull JsonNode template) {
+        for (final JsonNode binding : template.path("function").path("bindings")) {
+            final String type = binding.path("type").asText(null);
+            if (StringUtils.equalsIgnoreCase(binding.path("direction").asText(null), BindingEnum.Direction.IN.name()) &&
+                StringUtils.containsIgnoreCase(type, "trigger")) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Set<FunctionExtensionVersion> getSupportedExtensionVersions(@Nonnull JsonNode template) {
+        final Set<FunctionExtensionVersion> result = new HashSet<>();
+        template.path("bundle").forEach(v -> result.add(FunctionUtils.parseFunctionExtensionVersion(v.asText())));
+        return result.isEmpty() ? null : Collections.unmodifiableSet(result);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        @Nonnull
+        private final String name;
+        @Nullable
+        private final String triggerType;
+        @Nullable
+        private final Set<FunctionExtensionVersion> supportedExtensionVersions;
+        @Getter(AccessLevel.NONE)
+        private final JsonNode node;
+
+        public boolean isSupported(@Nullable FunctionExtensionVersion version) {
+            return Objects.isNull(version) || Objects.isNull(this.supportedExtensionVersions) || this.supportedExtensionVersions.contains(version);
+        }
+    }
+}
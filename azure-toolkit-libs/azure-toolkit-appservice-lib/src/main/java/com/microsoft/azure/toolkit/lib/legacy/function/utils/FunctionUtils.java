@@ -8,14 +8,13 @@ package com.microsoft.azure.toolkit.lib.legacy.function.utils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.azure.toolkit.lib.common.cache.Cacheable;
 import com.microsoft.azure.toolkit.lib.common.cache.Preload;
-import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.legacy.function.configurations.FunctionExtensionVersion;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.BindingConfiguration;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.BindingTemplate;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.BindingsTemplate;
 import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionTemplate;
-import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionTemplates;
+import com.microsoft.azure.toolkit.lib.legacy.function.template.FunctionTemplateCatalog;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -25,7 +24,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,7 +32,6 @@ import java.util.regex.Pattern;
 
 
 public class FunctionUtils {
-    private static final String LOAD_TEMPLATES_FAIL = "Failed to load all function templates.";
     private static final String LOAD_BINDING_TEMPLATES_FAIL = "Failed to load function binding template.";
     private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+|\\*)");
 
@@ -80,17 +77,11 @@ public class FunctionUtils {
     @Preload
     @Cacheable(value = "function-templates")
     public static List<FunctionTemplate> loadAllFunctionTemplates() {
-        try (final InputStream is = FunctionUtils.class.getResourceAsStream("/templates.json")) {
-            final String templatesJsonStr = IOUtils.toString(Objects.requireNonNull(is), StandardCharsets.UTF_8);
-            final FunctionTemplates templates = new ObjectMapper().readValue(templatesJsonStr, FunctionTemplates.class);
-            final BindingsTemplate bindings = loadBindingsTemplate();
-            final List<FunctionTemplate> result = Optional.ofNullable(templates)
-                    .map(FunctionTemplates::getTemplates).orElse(Collections.emptyList());
-            result.forEach(template -> Optional.ofNullable(bindings).map(binding ->
-                    binding.getBindingTemplate(template.getBindingConfiguration())).ifPresent(template::setBinding));
-            return result;
-        } catch (Exception e) {
-            throw new AzureToolkitRuntimeException(LOAD_TEMPLATES_FAIL, e);
-        }
+        return FunctionTemplateCatalog.getInstance().getAllTemplates();
+    }
+
+    @Nullable
+    public static FunctionTemplate loadFunctionTemplate(@Nonnull final String name) {
+        return FunctionTemplateCatalog.getInstance().getTemplate(name);
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth;
+
+import com.azure.core.credential.AccessToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * in-memory access token cache, e.g. keyed by tenant and scopes.
+ * concurrent requests of the same key share one fetch, and tokens still in use are refreshed in background
+ * (with random jitter) before they expire, so that callers rarely wait for a token.
+ */
+@Slf4j
+public class AccessTokenCache {
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(2);
+    private static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(5);
+    private static final long MAX_REFRESH_JITTER_SECONDS = 60;
+    private static final Duration MAX_REFRESH_DELAY = Duration.ofDays(1);
+    /**
+     * tokens are refreshed in background once their remaining lifetime falls in this window. fetchers backed by a
+     * persistent store should not return tokens inside it, otherwise the refresh gets the same token back and no
+     * further refresh is scheduled.
+     */
+    public static final Duration REFRESH_WINDOW = REFRESH_BEFORE_EXPIRY.plusSeconds(MAX_REFRESH_JITTER_SECONDS);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param fetcher fetches a new token for the current request, it's also used by the following background refresh
+     *                of the key, so that the latest request (rather than the first one) is refreshed.
+     */
+    @Nonnull
+    public Mono<AccessToken> getToken(@Nonnull String key, @Nonnull Supplier<Mono<AccessToken>> fetcher) {
+        return this.entries.computeIfAbsent(key, Entry::new).get(fetcher);
+    }
+
+    public void invalidate(@Nonnull String key) {
+        Optional.ofNullable(this.entries.remove(key)).ifPresent(Entry::dispose);
+    }
+
+    public void clear() {
+        this.entries.values().forEach(Entry::dispose);
+        this.entries.clear();
+    }
+
+    private static boolean isValid(@Nullable AccessToken token) {
+        return Objects.nonNull(token) && token.getExpiresAt().isAfter(OffsetDateTime.now().plus(EXPIRY_MARGIN));
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String key;
+        @Nullable
+        private Supplier<Mono<AccessToken>> fetcher;
+        @Nullable
+        private AccessToken token;
+        @Nullable
+        private Mono<AccessToken> pending;
+        @Nullable
+        private Disposable scheduledRefresh;
+        private boolean usedSinceFetched;
+
+        synchronized Mono<AccessToken> get(@Nonnull Supplier<Mono<AccessToken>> fetcher) {
+            this.fetcher = fetcher;
+            this.usedSinceFetched = true;
+            if (isValid(this.token)) {
+                return Mono.just(Objects.requireNonNull(this.token));
+            }
+            return this.fetch();
+        }
+
+        private synchronized Mono<AccessToken> fetch() {
+            if (Objects.isNull(this.pending)) {
+                this.pending = Mono.defer(Objects.requireNonNull(this.fetcher))
+                    .doOnNext(this::onFetched)
+                    .doFinally(s -> this.clearPending())
+                    .cache();
+            }
+            return this.pending;
+        }
+
+        private synchronized void clearPending() {
+            this.pending = null;
+        }
+
+        synchronized void onFetched(@Nonnull AccessToken newToken) {
+            this.token = newToken;
+            this.usedSinceFetched = false;
+            Optional.ofNullable(this.scheduledRefresh).ifPresent(Disposable::dispose);
+            final long jitter = ThreadLocalRandom.current().nextLong(MAX_REFRESH_JITTER_SECONDS + 1);
+            final Duration delay = Duration.between(OffsetDateTime.now(), newToken.getExpiresAt())
+                .minus(REFRESH_BEFORE_EXPIRY).minusSeconds(jitter);
+            if (!delay.isNegative() && !delay.isZero() && delay.compareTo(MAX_REFRESH_DELAY) < 0) {
+                this.scheduledRefresh = Mono.delay(delay, Schedulers.boundedElastic()).subscribe(ignore -> this.refresh());
+            }
+        }
+
+        private void refresh() {
+            final Mono<AccessToken> refreshing;
+            synchronized (this) {
+                if (!this.usedSinceFetched) { // token is not used anymore, let it expire.
+                    return;
+                }
+                refreshing = this.fetch();
+            }
+            refreshing.subscribe(ignore -> {
+            }, e -> log.debug("failed to refresh access token({}) in background.", this.key, e));
+        }
+
+        synchronized void dispose() {
+            Optional.ofNullable(this.scheduledRefresh).ifPresent(Disposable::dispose);
+            this.scheduledRefresh = null;
+            this.token = null;
+        }
+    }
+}
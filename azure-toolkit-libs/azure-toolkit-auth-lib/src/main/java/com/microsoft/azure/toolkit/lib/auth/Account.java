@@ -13,12 +13,14 @@ import com.azure.core.http.policy.RetryPolicy;
 import com.azure.core.management.AzureEnvironment;
 import com.azure.core.management.profile.AzureProfile;
 import com.azure.core.util.logging.ClientLogger;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.azure.identity.DeviceCodeCredential;
 import com.azure.identity.InteractiveBrowserCredential;
 import com.azure.identity.TokenCachePersistenceOptions;
 import com.azure.identity.implementation.MsalToken;
 import com.azure.identity.implementation.util.ScopeUtil;
 import com.azure.resourcemanager.resources.ResourceManager;
+import com.azure.resourcemanager.resources.models.Tenant;
 import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.account.IAccount;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
@@ -31,6 +33,7 @@ import com.microsoft.azure.toolkit.lib.common.model.AbstractAzServiceSubscriptio
 import com.microsoft.azure.toolkit.lib.common.model.Subscription;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.common.task.AzureTaskManager;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
 import com.microsoft.azure.toolkit.lib.common.utils.TextUtils;
 import com.microsoft.azure.toolkit.lib.common.utils.Utils;
 import lombok.AccessLevel;
@@ -44,12 +47,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -58,6 +64,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Getter
@@ -65,6 +74,9 @@ import java.util.stream.Collectors;
 public abstract class Account implements IAccount {
     protected static final TokenCachePersistenceOptions PERSISTENCE_OPTIONS = new TokenCachePersistenceOptions().setName("azure-toolkit.cache");
     private static final ClientLogger LOGGER = new ClientLogger(Account.class);
+    private static final SubscriptionCache SUBSCRIPTION_CACHE = new SubscriptionCache();
+    static final int MAX_CONCURRENT_TENANTS = 8;
+    private static final Duration TENANT_TIMEOUT = Duration.ofSeconds(30);
     private final Map<String, TokenCredential> tenantCredentialCache = new ConcurrentHashMap<>();
     @Nonnull
     private final AuthConfiguration config;
@@ -75,6 +87,9 @@ public abstract class Account implements IAccount {
     private TokenCredential defaultTokenCredential;
     @Getter(AccessLevel.NONE)
     private List<Subscription> subscriptions;
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private String subscriptionCacheKey;
 
     @Nonnull
     protected abstract TokenCredential buildDefaultTokenCredential();
@@ -95,7 +110,7 @@ public abstract class Account implements IAccount {
 
     void login() {
         this.defaultTokenCredential = this.buildDefaultTokenCredential();
-        this.reloadSubscriptions();
+        this.refreshSubscriptions();
         this.setupAfterLogin(this.defaultTokenCredential);
         this.config.setType(this.getType());
         this.config.setClient(this.getClientId());
@@ -138,12 +153,24 @@ public abstract class Account implements IAccount {
     @CacheEvict(CacheEvict.ALL)
         // evict all caches on signing out
     void logout() {
+        Optional.ofNullable(this.subscriptionCacheKey).ifPresent(SUBSCRIPTION_CACHE::remove);
+        this.subscriptionCacheKey = null;
         this.subscriptions = null;
         this.defaultTokenCredential = null;
+        this.tenantCredentialCache.values().stream()
+            .filter(c -> c instanceof TenantTokenCredential)
+            .forEach(c -> ((TenantTokenCredential) c).dispose());
+        this.tenantCredentialCache.clear();
     }
 
     @AzureOperation(name = "azure/account.reload_subscriptions")
     public List<Subscription> reloadSubscriptions() {
+        // explicit reloading always discovers subscriptions from Azure.
+        Optional.ofNullable(this.subscriptionCacheKey).ifPresent(SUBSCRIPTION_CACHE::remove);
+        return this.refreshSubscriptions();
+    }
+
+    private List<Subscription> refreshSubscriptions() {
         final List<String> selected = Optional.ofNullable(this.subscriptions).orElse(Collections.emptyList())
             .stream().filter(Subscription::isSelected)
             .map(Subscription::getId)
@@ -160,26 +187,82 @@ public abstract class Account implements IAccount {
     @AzureOperation(name = "azure/account.load_subscriptions")
     protected List<Subscription> loadSubscriptions() {
         final TokenCredential credential = this.defaultTokenCredential;
+        if (this.isPersistenceEnabled() && Objects.isNull(this.subscriptionCacheKey)) {
+            this.subscriptionCacheKey = this.getSubscriptionCacheKey(credential);
+        }
+        final String cacheKey = this.subscriptionCacheKey;
+        final Optional<List<Subscription>> cached = Optional.ofNullable(cacheKey).flatMap(SUBSCRIPTION_CACHE::get);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final AtomicBoolean complete = new AtomicBoolean(true);
         final ResourceManager.Authenticated client = configureAzure().authenticate(credential, new AzureProfile(this.getEnvironment()));
-        return client.tenants().listAsync()
-            .flatMap(t -> this.loadSubscriptions(t.tenantId()))
+        final Flux<String> tenantIds = client.tenants().listAsync().map(Tenant::tenantId);
+        final List<Subscription> result = loadSubscriptions(tenantIds, this::loadTenantSubscriptions, TENANT_TIMEOUT, (tenantId, ex) -> {
+            complete.set(false);
+            AzureMessager.getMessager().warning(AzureString.format(
+                "Failed to get subscriptions for tenant %s, please confirm you have sufficient permissions." +
+                    " Use %s to explicitly login to a tenant if it requires Multi-Factor Authentication (MFA)." +
+                    " Message: %s", tenantId, "-Dauth.tenant=TENANT_ID", ex.getMessage()));
+        });
+        // partial result (some tenants failed) is returned but not cached.
+        if (Objects.nonNull(cacheKey) && complete.get() && CollectionUtils.isNotEmpty(result)) {
+            SUBSCRIPTION_CACHE.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * lists subscriptions of the tenants, at most {@link #MAX_CONCURRENT_TENANTS} tenants at a time. a tenant that fails
+     * or doesn't answer in time is reported to {@code onFailure} and skipped, subscriptions of other tenants are still returned.
+     */
+    @Nonnull
+    static List<Subscription> loadSubscriptions(@Nonnull Flux<String> tenantIds, @Nonnull Function<String, Flux<Subscription>> loader,
+                                                @Nonnull Duration timeout, @Nonnull BiConsumer<String, Throwable> onFailure) {
+        final List<Subscription> result = tenantIds
+            .flatMap(tenantId -> Flux.defer(() -> loader.apply(tenantId))
+                .collectList().timeout(timeout).flatMapIterable(l -> l)
+                .subscribeOn(Schedulers.boundedElastic()) // token acquisition of some credentials is blocking.
+                .onErrorResume(ex -> {
+                    onFailure.accept(tenantId, ex);
+                    return Flux.empty();
+                }), MAX_CONCURRENT_TENANTS)
             .filter(Utils.distinctByKey(Subscription::getId))
             .collectList().block();
+        return Optional.ofNullable(result).orElse(Collections.emptyList());
     }
 
     @Nonnull
     @AzureOperation(name = "azure/account.load_subscriptions.tenant", params = "tenantId")
-    private Flux<Subscription> loadSubscriptions(String tenantId) {
+    private Flux<Subscription> loadTenantSubscriptions(String tenantId) {
         final TokenCredential credential = this.getTenantTokenCredential(tenantId);
         final AzureProfile profile = new AzureProfile(tenantId, null, this.getEnvironment());
         final ResourceManager.Authenticated client = configureAzure().authenticate(credential, profile);
-        return client.subscriptions().listAsync().onErrorResume(ex -> {
-                AzureMessager.getMessager().warning(AzureString.format(
-                    "Failed to get subscriptions for tenant %s, please confirm you have sufficient permissions." +
-                        " Use %s to explicitly login to a tenant if it requires Multi-Factor Authentication (MFA)." +
-                        " Message: %s", tenantId, "-Dauth.tenant=TENANT_ID", ex.getMessage()));
-                return Flux.fromIterable(new ArrayList<>());
-        }).map(Subscription::new);
+        return client.subscriptions().listAsync().map(Subscription::new);
+    }
+
+    /**
+     * key of the persisted subscription cache, identifying the signed-in principal by the claims of its management token.
+     */
+    @Nullable
+    private String getSubscriptionCacheKey(@Nonnull TokenCredential credential) {
+        final String[] scopes = ScopeUtil.resourceToScopes(this.getEnvironment().getManagementEndpoint());
+        try {
+            final String jwt = Objects.requireNonNull(credential.getToken(new TokenRequestContext().addScopes(scopes)).block()).getToken();
+            final String payload = new String(Base64.getUrlDecoder().decode(jwt.split("\\.")[1]), StandardCharsets.UTF_8);
+            final Map<String, Object> claims = JsonUtils.fromJson(payload, new TypeReference<Map<String, Object>>() {
+            });
+            final Object tenantId = claims.get("tid");
+            final Object objectId = claims.get("oid");
+            if (Objects.isNull(tenantId) || Objects.isNull(objectId)) {
+                return null;
+            }
+            return String.format("%s:%s:%s:%s:%s", AzureEnvironmentUtils.azureEnvironmentToString(this.getEnvironment()),
+                this.getType(), this.getClientId(), tenantId, objectId);
+        } catch (final Exception e) {
+            LOGGER.verbose("failed to resolve the subscription cache key, subscriptions will not be cached.", e);
+            return null;
+        }
     }
 
     @Nonnull
@@ -283,19 +366,28 @@ public abstract class Account implements IAccount {
 
     @RequiredArgsConstructor
     private static class TenantTokenCredential implements TokenCredential {
-        // cache for different resources on the same tenant
-        // private final Map<String, SimpleTokenCache> resourceTokenCache = new ConcurrentHashMap<>();
+        // cache for different tenants(request may specify its own tenant) and resources
+        private final AccessTokenCache tokenCache = new AccessTokenCache();
         private final String tenantId;
         private final TokenCredential defaultCredential;
 
         @Override
         public Mono<AccessToken> getToken(TokenRequestContext request) {
-            request.setTenantId(StringUtils.firstNonBlank(request.getTenantId(), this.tenantId));
-            // final String resource = ScopeUtil.scopesToResource(request.getScopes());
-            // final Function<String, SimpleTokenCache> func = (ignore) -> new SimpleTokenCache(() -> defaultCredential.getToken(request));
-            // return resourceTokenCache.computeIfAbsent(resource, func).getToken();
-            // final Mono<AccessToken> token = defaultCredential.getToken(request);
-            // final String resource = ScopeUtil.scopesToResource(request.getScopes());
+            // the request belongs to the caller (and may be reused by it), so a copy is completed and fetched with.
+            final TokenRequestContext context = new TokenRequestContext()
+                .setScopes(new ArrayList<>(request.getScopes()))
+                .setClaims(request.getClaims())
+                .setTenantId(StringUtils.firstNonBlank(request.getTenantId(), this.tenantId))
+                .setCaeEnabled(request.isCaeEnabled());
+            if (StringUtils.isNotBlank(context.getClaims())) { // claims challenge must reach the credential.
+                return this.getTokenFromCredential(context);
+            }
+            final String resource = ScopeUtil.scopesToResource(context.getScopes());
+            final String key = String.format("%s:%s", context.getTenantId(), resource);
+            return this.tokenCache.getToken(key, () -> this.getTokenFromCredential(context));
+        }
+
+        private Mono<AccessToken> getTokenFromCredential(TokenRequestContext request) {
             return defaultCredential.getToken(request).doOnTerminate(() -> {
                 if (defaultCredential instanceof InteractiveBrowserCredential || defaultCredential instanceof DeviceCodeCredential) {
                     disableAutomaticAuthentication(); // disable after first success.
@@ -303,6 +395,10 @@ public abstract class Account implements IAccount {
             });
         }
 
+        void dispose() {
+            this.tokenCache.clear();
+        }
+
         @SneakyThrows
         private void disableAutomaticAuthentication() {
             final Field automaticField = FieldUtils.getField(this.defaultCredential.getClass(), "automaticAuthentication", true);
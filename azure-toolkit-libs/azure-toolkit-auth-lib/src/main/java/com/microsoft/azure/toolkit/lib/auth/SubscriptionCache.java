@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.azure.toolkit.lib.common.model.Subscription;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.Utils;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * file based cache of subscriptions discovered for an account, stored in the toolkit cache directory, so that
+ * repeated logins (across processes) can skip tenant/subscription discovery.
+ */
+@Slf4j
+class SubscriptionCache {
+    private static final String FILE_NAME = "subscriptions.json";
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final TypeReference<HashMap<String, Entry>> TYPE = new TypeReference<HashMap<String, Entry>>() {
+    };
+
+    @Nonnull
+    private final Path file;
+
+    SubscriptionCache() {
+        this.file = Utils.getCacheDir().resolve(FILE_NAME);
+    }
+
+    @Nonnull
+    synchronized Optional<List<Subscription>> get(@Nonnull String key) {
+        final long now = Instant.now().getEpochSecond();
+        return Optional.ofNullable(this.read().get(key))
+            .filter(e -> Objects.nonNull(e.getSubscriptions()) && e.getExpiresOn() > now)
+            .map(e -> e.getSubscriptions().stream().map(SubscriptionCache::copy).collect(Collectors.toList()));
+    }
+
+    synchronized void put(@Nonnull String key, @Nonnull List<Subscription> subscriptions) {
+        final long now = Instant.now().getEpochSecond();
+        final Map<String, Entry> entries = this.read();
+        entries.values().removeIf(e -> e.getExpiresOn() <= now);
+        final Entry entry = new Entry();
+        entry.setExpiresOn(now + TTL.getSeconds());
+        entry.setSubscriptions(subscriptions.stream().map(SubscriptionCache::copy).collect(Collectors.toList()));
+        entries.put(key, entry);
+        this.write(entries);
+    }
+
+    synchronized void remove(@Nonnull String key) {
+        final Map<String, Entry> entries = this.read();
+        if (Objects.nonNull(entries.remove(key))) {
+            this.write(entries);
+        }
+    }
+
+    @Nonnull
+    private Map<String, Entry> read() {
+        if (!Files.isRegularFile(this.file)) {
+            return new HashMap<>();
+        }
+        try {
+            final String json = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+            return Optional.ofNullable(JsonUtils.fromJson(json, TYPE)).orElseGet(HashMap::new);
+        } catch (final Exception e) {
+            log.debug("failed to read subscription cache from {}.", this.file, e);
+            return new HashMap<>();
+        }
+    }
+
+    private void write(@Nonnull Map<String, Entry> entries) {
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path temp = Files.createTempFile(this.file.getParent(), FILE_NAME, ".tmp");
+            try {
+                Files.write(temp, JsonUtils.toJson(entries).getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            log.debug("failed to write subscription cache to {}.", this.file, e);
+        }
+    }
+
+    @Nonnull
+    private static Subscription copy(@Nonnull Subscription s) {
+        // selection is restored from configuration, not from the cache.
+        return Subscription.builder().id(s.getId()).name(s.getName()).tenantId(s.getTenantId()).build();
+    }
+
+    @Getter
+    @Setter
+    static class Entry {
+        private long expiresOn;
+        @Nullable
+        private List<Subscription> subscriptions;
+    }
+}
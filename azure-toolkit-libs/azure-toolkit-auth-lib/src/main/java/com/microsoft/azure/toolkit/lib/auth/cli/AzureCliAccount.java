@@ -6,13 +6,13 @@
 package com.microsoft.azure.toolkit.lib.auth.cli;
 
 import com.azure.core.credential.AccessToken;
-import com.azure.core.credential.SimpleTokenCache;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.management.AzureEnvironment;
 import com.azure.identity.implementation.util.ScopeUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.azure.toolkit.lib.Azure;
+import com.microsoft.azure.toolkit.lib.auth.AccessTokenCache;
 import com.microsoft.azure.toolkit.lib.auth.Account;
 import com.microsoft.azure.toolkit.lib.auth.AuthConfiguration;
 import com.microsoft.azure.toolkit.lib.auth.AuthType;
@@ -22,13 +22,16 @@ import com.microsoft.azure.toolkit.lib.auth.AzureToolkitAuthenticationException;
 import com.microsoft.azure.toolkit.lib.common.model.Subscription;
 import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
 import com.microsoft.azure.toolkit.lib.common.utils.TextUtils;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -39,7 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Getter
@@ -81,7 +84,7 @@ public class AzureCliAccount extends Account {
     @Override
     protected TokenCredential buildDefaultTokenCredential() {
         final String tenantId = Optional.of(this.getConfig()).map(AuthConfiguration::getTenant).orElse(null);
-        return new AzureCliTokenCredential(tenantId);
+        return new AzureCliTokenCredential(tenantId, this.isPersistenceEnabled());
     }
 
     @Override
@@ -95,35 +98,69 @@ public class AzureCliAccount extends Account {
         }
     }
 
-    @AllArgsConstructor
+    @RequiredArgsConstructor
     static class AzureCliTokenCredential implements TokenCredential {
         private static final String CLI_GET_ACCESS_TOKEN_CMD = "az account get-access-token --resource %s %s --output json";
-        private final Map<String, SimpleTokenCache> tenantResourceTokenCache = new ConcurrentHashMap<>();
+        // persisted tokens inside the refresh window would be handed back to the background refresh again and again.
+        private static final Duration MIN_PERSISTED_TOKEN_LIFETIME = AccessTokenCache.REFRESH_WINDOW.plusMinutes(1);
+        // shared by all credentials of the process, since azure cli returns the same token for the same tenant and resource.
+        private static final AccessTokenCache TOKEN_CACHE = new AccessTokenCache();
+        private static final AzureCliTokenStore TOKEN_STORE = new AzureCliTokenStore();
+        private static final AtomicLong PROFILE_MODIFIED = new AtomicLong(Long.MIN_VALUE);
         private final String tenantId;
+        private final boolean persistenceEnabled;
 
         @Override
         public Mono<AccessToken> getToken(TokenRequestContext request) {
             final String tId = StringUtils.firstNonBlank(request.getTenantId(), this.tenantId);
             final String scopes = ScopeUtil.scopesToResource(request.getScopes());
             final String key = String.format("%s:%s", tId, scopes);
-            return tenantResourceTokenCache.computeIfAbsent(key, k -> new SimpleTokenCache(() -> {
-                final String azCommand = String.format(CLI_GET_ACCESS_TOKEN_CMD, scopes, (StringUtils.isBlank(tId) || isInCloudShell()) ? "" : (" -t " + tId));
-                final TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
-                };
-                final Map<String, Object> result = JsonUtils.fromJson(AzureCliUtils.executeAzureCli(azCommand), typeRef);
+            // in-memory tokens are dropped too once azure cli profile is changed, e.g. by `az login` or `az account set`.
+            final long profileModified = TOKEN_STORE.getProfileModified();
+            if (PROFILE_MODIFIED.getAndSet(profileModified) != profileModified) {
+                TOKEN_CACHE.clear();
+            }
+            return TOKEN_CACHE.getToken(key, () -> Mono.fromCallable(() -> this.loadToken(key, tId, scopes)));
+        }
+
+        @Nonnull
+        private AccessToken loadToken(@Nonnull String key, @Nullable String tId, @Nonnull String scopes) {
+            if (this.persistenceEnabled) {
+                final Optional<AccessToken> persisted = TOKEN_STORE.get(key)
+                    .filter(t -> t.getExpiresAt().isAfter(OffsetDateTime.now().plus(MIN_PERSISTED_TOKEN_LIFETIME)));
+                if (persisted.isPresent()) {
+                    return persisted.get();
+                }
+            }
+            final AccessToken token = getTokenFromAzureCli(tId, scopes);
+            if (this.persistenceEnabled) {
+                TOKEN_STORE.put(key, token);
+            }
+            return token;
+        }
+
+        @Nonnull
+        private static AccessToken getTokenFromAzureCli(@Nullable String tId, @Nonnull String scopes) {
+            final String azCommand = String.format(CLI_GET_ACCESS_TOKEN_CMD, scopes, (StringUtils.isBlank(tId) || isInCloudShell()) ? "" : (" -t " + tId));
+            final TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
+            };
+            final Map<String, Object> result = JsonUtils.fromJson(AzureCliUtils.executeAzureCli(azCommand), typeRef);
 
-                // com.azure.identity.implementation.IdentityClient.authenticateWithAzureCli
-                final String accessToken = (String) result.get("accessToken");
-                final OffsetDateTime expiresDateTime = Optional.ofNullable(((String) result.get("expiresOn")))
+            // com.azure.identity.implementation.IdentityClient.authenticateWithAzureCli
+            final String accessToken = (String) result.get("accessToken");
+            // `expires_on`(POSIX timestamp) is available since azure cli 2.54.0, `expiresOn` is local datetime.
+            final OffsetDateTime expiresDateTime = Optional.ofNullable(result.get("expires_on"))
+                .filter(value -> value instanceof Number)
+                .map(value -> Instant.ofEpochSecond(((Number) value).longValue()).atOffset(ZoneOffset.UTC))
+                .orElseGet(() -> Optional.ofNullable(((String) result.get("expiresOn")))
                     .filter(StringUtils::isNotBlank)
                     .map(value -> value.substring(0, value.indexOf(".")))
                     .map(value -> String.join("T", value.split(" ")))
                     .map(value -> LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
                         .atZone(ZoneId.systemDefault()).toOffsetDateTime()
                         .withOffsetSameInstant(ZoneOffset.UTC))
-                    .orElse(OffsetDateTime.MAX);
-                return Mono.just(new AccessToken(accessToken, expiresDateTime));
-            })).getToken();
+                    .orElse(OffsetDateTime.MAX));
+            return new AccessToken(accessToken, expiresDateTime);
         }
     }
 
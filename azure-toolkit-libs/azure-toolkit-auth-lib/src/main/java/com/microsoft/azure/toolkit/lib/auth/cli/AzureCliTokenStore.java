@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth.cli;
+
+import com.azure.core.credential.AccessToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.Utils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * file based store of access tokens got from azure cli, so that they can be reused across processes (e.g. maven invocations).
+ * the file is readable/writable by its owner only, and tokens stored before the last change of azure cli profile
+ * (e.g. `az login`, `az logout`) are ignored. the file is shared by all azure cli config directories
+ * ({@code AZURE_CONFIG_DIR}), tokens are stored per config directory.
+ */
+@Slf4j
+class AzureCliTokenStore {
+    private static final String AZURE_CONFIG_DIR_ENV_KEY = "AZURE_CONFIG_DIR";
+    private static final String FILE_NAME = "az-cli-tokens.json";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String EXPIRES_ON = "expiresOn";
+    private static final String PROFILE_MODIFIED = "profileModified";
+    private static final String PROFILE_FILE_NAME = "azureProfile.json";
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+    private static final TypeReference<HashMap<String, Map<String, Object>>> TYPE = new TypeReference<HashMap<String, Map<String, Object>>>() {
+    };
+
+    @Nonnull
+    private final Path file;
+    @Nonnull
+    private final Path profile;
+    @Nonnull
+    private final String configDir;
+
+    AzureCliTokenStore() {
+        final String configDir = StringUtils.firstNonBlank(System.getenv(AZURE_CONFIG_DIR_ENV_KEY),
+            Paths.get(System.getProperty("user.home"), ".azure").toString());
+        this.configDir = Paths.get(configDir).toAbsolutePath().normalize().toString();
+        this.file = Utils.getCacheDir().resolve(FILE_NAME);
+        this.profile = Paths.get(configDir, PROFILE_FILE_NAME);
+    }
+
+    @Nonnull
+    synchronized Optional<AccessToken> get(@Nonnull String key) {
+        return Optional.ofNullable(this.read().get(this.toEntryKey(key))).map(entry -> {
+            final String token = (String) entry.get(ACCESS_TOKEN);
+            final Object expiresOn = entry.get(EXPIRES_ON);
+            final Object profileModified = entry.get(PROFILE_MODIFIED);
+            if (StringUtils.isBlank(token) || !(expiresOn instanceof Number) ||
+                !(profileModified instanceof Number) || ((Number) profileModified).longValue() != this.getProfileModified()) {
+                return null;
+            }
+            final OffsetDateTime expiresAt = Instant.ofEpochSecond(((Number) expiresOn).longValue()).atOffset(ZoneOffset.UTC);
+            return new AccessToken(token, expiresAt);
+        });
+    }
+
+    synchronized void put(@Nonnull String key, @Nonnull AccessToken token) {
+        if (OffsetDateTime.MAX.equals(token.getExpiresAt())) { // expiry is unknown
+            return;
+        }
+        final Map<String, Map<String, Object>> tokens = this.read();
+        final OffsetDateTime now = OffsetDateTime.now();
+        tokens.values().removeIf(e -> !(e.get(EXPIRES_ON) instanceof Number) || ((Number) e.get(EXPIRES_ON)).longValue() < now.toEpochSecond());
+        final Map<String, Object> entry = new HashMap<>();
+        entry.put(ACCESS_TOKEN, token.getToken());
+        entry.put(EXPIRES_ON, token.getExpiresAt().toEpochSecond());
+        entry.put(PROFILE_MODIFIED, this.getProfileModified());
+        tokens.put(this.toEntryKey(key), entry);
+        this.write(tokens);
+    }
+
+    @Nonnull
+    private Map<String, Map<String, Object>> read() {
+        if (!Files.isRegularFile(this.file)) {
+            return new HashMap<>();
+        }
+        try {
+            final String json = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+            return Optional.ofNullable(JsonUtils.fromJson(json, TYPE)).orElseGet(HashMap::new);
+        } catch (final Exception e) {
+            log.debug("failed to read azure cli token cache from {}.", this.file, e);
+            return new HashMap<>();
+        }
+    }
+
+    private void write(@Nonnull Map<String, Map<String, Object>> tokens) {
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path temp = Files.createTempFile(this.file.getParent(), FILE_NAME, ".tmp");
+            try {
+                restrictToOwner(temp);
+                Files.write(temp, JsonUtils.toJson(tokens).getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            log.debug("failed to write azure cli token cache to {}.", this.file, e);
+        }
+    }
+
+    @Nonnull
+    private String toEntryKey(@Nonnull String key) {
+        return String.format("%s|%s", this.configDir, key);
+    }
+
+    long getProfileModified() {
+        try {
+            return Files.getLastModifiedTime(this.profile).toMillis();
+        } catch (final IOException e) {
+            return -1;
+        }
+    }
+
+    private static void restrictToOwner(@Nonnull Path path) throws IOException {
+        try {
+            Files.setPosixFilePermissions(path, OWNER_ONLY);
+        } catch (final UnsupportedOperationException e) { // e.g. windows, where files in user home are private by default.
+            final File f = path.toFile();
+            //noinspection ResultOfMethodCallIgnored
+            f.setReadable(false, false);
+            //noinspection ResultOfMethodCallIgnored
+            f.setReadable(true, true);
+            //noinspection ResultOfMethodCallIgnored
+            f.setWritable(false, false);
+            //noinspection ResultOfMethodCallIgnored
+            f.setWritable(true, true);
+        }
+    }
+}
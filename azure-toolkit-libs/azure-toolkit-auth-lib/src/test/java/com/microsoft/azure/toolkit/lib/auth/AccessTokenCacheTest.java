@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth;
+
+import com.azure.core.credential.AccessToken;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class AccessTokenCacheTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    public void concurrentRequestsShareOneFetch() throws Exception {
+        final AccessTokenCache cache = new AccessTokenCache();
+        final AtomicInteger fetches = new AtomicInteger();
+        final Supplier<Mono<AccessToken>> fetcher = () -> Mono.delay(Duration.ofMillis(300))
+            .map(ignore -> token("token-" + fetches.incrementAndGet(), Duration.ofHours(1)));
+
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final List<Future<AccessToken>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.getToken("tenant:resource", fetcher).block(TIMEOUT)));
+        }
+        for (final Future<AccessToken> result : results) {
+            Assert.assertEquals("token-1", result.get(30, TimeUnit.SECONDS).getToken());
+        }
+        executor.shutdown();
+        Assert.assertEquals(1, fetches.get());
+        Assert.assertEquals("token-1", cache.getToken("tenant:resource", fetcher).block(TIMEOUT).getToken());
+        Assert.assertEquals(1, fetches.get());
+        cache.clear();
+    }
+
+    @Test
+    public void expiringTokenIsFetchedAgainWithLatestFetcher() {
+        final AccessTokenCache cache = new AccessTokenCache();
+        // tokens expiring within the margin are never handed out, the next request has to fetch a new one.
+        final AccessToken expiring = cache.getToken("tenant:resource", () -> Mono.just(token("first", Duration.ofMinutes(1)))).block(TIMEOUT);
+        Assert.assertEquals("first", expiring.getToken());
+
+        final AccessToken refreshed = cache.getToken("tenant:resource", () -> Mono.just(token("second", Duration.ofHours(1)))).block(TIMEOUT);
+        Assert.assertEquals("second", refreshed.getToken());
+        cache.clear();
+    }
+
+    @Test
+    public void failedFetchIsNotCached() {
+        final AccessTokenCache cache = new AccessTokenCache();
+        final AtomicInteger fetches = new AtomicInteger();
+        final Supplier<Mono<AccessToken>> fetcher = () -> fetches.incrementAndGet() == 1 ?
+            Mono.error(new IllegalStateException("unavailable")) : Mono.just(token("token", Duration.ofHours(1)));
+
+        Assert.assertThrows(IllegalStateException.class, () -> cache.getToken("tenant:resource", fetcher).block(TIMEOUT));
+        Assert.assertEquals("token", cache.getToken("tenant:resource", fetcher).block(TIMEOUT).getToken());
+        Assert.assertEquals(2, fetches.get());
+        cache.clear();
+    }
+
+    @Test
+    public void invalidatedTokenIsFetchedAgain() {
+        final AccessTokenCache cache = new AccessTokenCache();
+        final AtomicInteger fetches = new AtomicInteger();
+        final Supplier<Mono<AccessToken>> fetcher = () -> Mono.fromCallable(() -> token("token-" + fetches.incrementAndGet(), Duration.ofHours(1)));
+
+        Assert.assertEquals("token-1", cache.getToken("tenant:resource", fetcher).block(TIMEOUT).getToken());
+        cache.invalidate("tenant:resource");
+        Assert.assertEquals("token-2", cache.getToken("tenant:resource", fetcher).block(TIMEOUT).getToken());
+        cache.clear();
+    }
+
+    private static AccessToken token(String value, Duration lifetime) {
+        return new AccessToken(value, OffsetDateTime.now().plus(lifetime));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth;
+
+import com.microsoft.azure.toolkit.lib.common.model.Subscription;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class AccountTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    public void tenantsAreLoadedInParallel() {
+        final AtomicInteger loading = new AtomicInteger();
+        final AtomicInteger maxLoading = new AtomicInteger();
+        final List<String> tenantIds = IntStream.range(0, Account.MAX_CONCURRENT_TENANTS * 2).mapToObj(i -> "tenant-" + i).collect(Collectors.toList());
+
+        final List<Subscription> result = Account.loadSubscriptions(Flux.fromIterable(tenantIds), tenantId -> {
+            maxLoading.accumulateAndGet(loading.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(300))
+                .doOnNext(ignore -> loading.decrementAndGet())
+                .thenMany(Flux.just(subscription(tenantId, "sub-of-" + tenantId)));
+        }, TIMEOUT, (tenantId, ex) -> Assert.fail(tenantId + " failed: " + ex));
+
+        Assert.assertEquals(tenantIds.size(), result.size());
+        Assert.assertEquals(Account.MAX_CONCURRENT_TENANTS, maxLoading.get());
+    }
+
+    @Test
+    public void failedTenantsAreSkipped() {
+        final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        final List<Subscription> result = Account.loadSubscriptions(Flux.just("good", "bad", "slow"), tenantId -> {
+            if ("bad".equals(tenantId)) {
+                return Flux.error(new IllegalStateException("forbidden"));
+            } else if ("slow".equals(tenantId)) {
+                return Flux.just(subscription(tenantId, "sub-slow")).delaySubscription(Duration.ofSeconds(10));
+            }
+            return Flux.just(subscription(tenantId, "sub-1"), subscription(tenantId, "sub-2"));
+        }, Duration.ofMillis(500), failures::put);
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("sub-1", "sub-2")), ids(result));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("bad", "slow")), failures.keySet());
+    }
+
+    @Test
+    public void subscriptionsSharedByTenantsAreListedOnce() {
+        final List<Subscription> result = Account.loadSubscriptions(Flux.just("tenant-1", "tenant-2"),
+            tenantId -> Flux.just(subscription(tenantId, "shared"), subscription(tenantId, "own-" + tenantId)),
+            TIMEOUT, (tenantId, ex) -> Assert.fail(tenantId + " failed: " + ex));
+
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("shared", "own-tenant-1", "own-tenant-2")), ids(result));
+    }
+
+    private static Subscription subscription(String tenantId, String id) {
+        return Subscription.builder().id(id).name(id).tenantId(tenantId).build();
+    }
+
+    private static Set<String> ids(List<Subscription> subscriptions) {
+        return subscriptions.stream().map(Subscription::getId).collect(Collectors.toSet());
+    }
+}
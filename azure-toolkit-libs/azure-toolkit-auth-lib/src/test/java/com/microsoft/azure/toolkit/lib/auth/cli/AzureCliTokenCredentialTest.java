@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.auth.cli;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRequestContext;
+import com.microsoft.azure.toolkit.lib.common.utils.CommandUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * runs {@link AzureCliAccount.AzureCliTokenCredential} against a fake `az` on PATH which counts its invocations.
+ */
+public class AzureCliTokenCredentialTest {
+    private static final String FAKE_AZ = "#!/bin/sh\n" +
+        "dir=$(dirname \"$0\")\n" +
+        "echo x >> \"$dir/calls\"\n" +
+        "sleep \"$(cat \"$dir/delay\")\"\n" +
+        "now=$(date +%s)\n" +
+        "echo \"{\\\"accessToken\\\": \\\"token-$(wc -l < \"$dir/calls\" | tr -d ' ')\\\", " +
+        "\\\"expires_on\\\": $((now + $(cat \"$dir/expires-in\")))}\"\n";
+
+    private Path bin;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        this.bin = Files.createTempDirectory("fake-az");
+        final Path az = this.bin.resolve("az");
+        Files.write(az, FAKE_AZ.getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(az.toFile().setExecutable(true));
+        this.configure(0, 3600);
+        final Map<String, String> env = new HashMap<>(System.getenv());
+        env.put("PATH", this.bin + File.pathSeparator + System.getenv("PATH"));
+        CommandUtils.setEnv(env);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        CommandUtils.setEnv(System.getenv());
+        if (this.bin != null) {
+            for (final File file : this.bin.toFile().listFiles()) {
+                Files.delete(file.toPath());
+            }
+            Files.delete(this.bin);
+        }
+    }
+
+    @Test
+    public void tokenIsCached() throws IOException {
+        final String tenant = UUID.randomUUID().toString();
+        final AccessToken first = new AzureCliAccount.AzureCliTokenCredential(tenant, false).getToken(request()).block();
+        final AccessToken second = new AzureCliAccount.AzureCliTokenCredential(tenant, false).getToken(request()).block();
+        Assert.assertNotNull(first);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, this.calls());
+    }
+
+    @Test
+    public void concurrentRequestsShareOneFetch() throws Exception {
+        this.configure(1, 3600);
+        final AzureCliAccount.AzureCliTokenCredential credential = newCredential();
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<AccessToken>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return credential.getToken(request()).block();
+                }));
+            }
+            start.countDown();
+            final AccessToken token = results.get(0).get(30, TimeUnit.SECONDS);
+            for (final Future<AccessToken> result : results) {
+                Assert.assertSame(token, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(1, this.calls());
+    }
+
+    @Test
+    public void expiringTokenIsFetchedAgain() throws IOException {
+        this.configure(0, 60); // within the expiry margin
+        final AzureCliAccount.AzureCliTokenCredential credential = newCredential();
+        final AccessToken first = credential.getToken(request()).block();
+        final AccessToken second = credential.getToken(request()).block();
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNotEquals(first.getToken(), second.getToken());
+        Assert.assertEquals(2, this.calls());
+    }
+
+    private void configure(int delaySeconds, int expiresInSeconds) throws IOException {
+        Files.write(this.bin.resolve("delay"), String.valueOf(delaySeconds).getBytes(StandardCharsets.UTF_8));
+        Files.write(this.bin.resolve("expires-in"), String.valueOf(expiresInSeconds).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int calls() throws IOException {
+        final Path calls = this.bin.resolve("calls");
+        return Files.exists(calls) ? Files.readAllLines(calls).size() : 0;
+    }
+
+    private static AzureCliAccount.AzureCliTokenCredential newCredential() {
+        // a distinct tenant per test, since tokens are cached process wide.
+        return new AzureCliAccount.AzureCliTokenCredential(UUID.randomUUID().toString(), false);
+    }
+
+    private static TokenRequestContext request() {
+        return new TokenRequestContext().addScopes("https://management.azure.com/.default");
+    }
+}
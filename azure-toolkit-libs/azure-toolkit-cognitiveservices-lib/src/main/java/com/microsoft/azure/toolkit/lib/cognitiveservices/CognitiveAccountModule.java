@@ -11,9 +11,10 @@ import com.azure.resourcemanager.cognitiveservices.models.Account;
 import com.azure.resourcemanager.cognitiveservices.models.Accounts;
 import com.azure.resourcemanager.cognitiveservices.models.ResourceSku;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.microsoft.azure.toolkit.lib.cognitiveservices.model.AccountModel;
 import com.microsoft.azure.toolkit.lib.cognitiveservices.model.AccountSku;
-import com.microsoft.azure.toolkit.lib.common.cache.Cacheable;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
@@ -22,15 +23,29 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class CognitiveAccountModule extends AbstractAzResourceModule<CognitiveAccount, CognitiveServicesSubscription, Account> {
     public static final String NAME = "accounts";
+    private static final int CATALOG_TTL_MINUTES = 60;
+
+    // sku catalog and models are loaded at most once at a time, concurrent callers wait for and share the result.
+    private final LoadingCache<String, SkuCatalog> skuCatalog = Caffeine.newBuilder()
+        .expireAfterWrite(CATALOG_TTL_MINUTES, TimeUnit.MINUTES).build(this::loadSkuCatalog);
+    private final LoadingCache<String, List<AccountModel>> models = Caffeine.newBuilder()
+        .expireAfterWrite(CATALOG_TTL_MINUTES, TimeUnit.MINUTES).build(this::loadModels);
 
     public CognitiveAccountModule(@Nonnull CognitiveServicesSubscription parent) {
         super(NAME, parent);
@@ -83,40 +98,93 @@ public class CognitiveAccountModule extends AbstractAzResourceModule<CognitiveAc
         return new CognitiveAccountDraft(name, rgName, this);
     }
 
+    @Nonnull
     public List<AccountModel> listModels(@Nonnull final Region region) {
-        return Optional.ofNullable(getParent().getRemote())
-            .map(CognitiveServicesManager::models)
-            .map(models -> models.list(region.getName()).stream().map(AccountModel::fromModel).collect(Collectors.toList()))
-            .orElse(Collections.emptyList());
+        return Optional.ofNullable(this.models.get(region.getName())).map(ArrayList::new).orElseGet(ArrayList::new);
     }
 
     @Nonnull
     public List<AccountSku> listSkus(@Nullable final Region region) {
-        final List<ResourceSku> resourceSkus = listCognitiveAccountSku();
-        return resourceSkus.stream()
-            .filter(sku -> Objects.isNull(region) || sku.locations().stream().anyMatch(item -> StringUtils.equalsIgnoreCase(region.getName(), item)))
-            .map(AccountSku::fromSku).distinct().collect(Collectors.toList());
+        final SkuCatalog catalog = this.skuCatalog.get(this.getSubscriptionId());
+        if (Objects.isNull(catalog)) {
+            return new ArrayList<>();
+        }
+        final List<AccountSku> skus = Objects.isNull(region) ? catalog.skus : catalog.skusByRegion.get(StringUtils.lowerCase(region.getName()));
+        return Objects.isNull(skus) ? new ArrayList<>() : new ArrayList<>(skus);
     }
 
     @Nonnull
     public List<Region> listRegion(@Nullable AccountSku sku) {
-        final List<ResourceSku> resourceSkus = listCognitiveAccountSku();
-        return resourceSkus.stream()
-            .filter(s -> Objects.isNull(sku) || (StringUtils.equalsIgnoreCase(sku.getName(), s.name()) && StringUtils.equalsIgnoreCase(sku.getTier(), s.tier())))
-            .flatMap(s -> s.locations().stream())
-            .map(Region::fromName).distinct().collect(Collectors.toList());
+        final SkuCatalog catalog = this.skuCatalog.get(this.getSubscriptionId());
+        if (Objects.isNull(catalog)) {
+            return new ArrayList<>();
+        }
+        final List<Region> regions = Objects.isNull(sku) ? catalog.regions : catalog.regionsBySku.get(SkuCatalog.key(sku.getName(), sku.getTier()));
+        return Objects.isNull(regions) ? new ArrayList<>() : new ArrayList<>(regions);
     }
 
-    @Cacheable(cacheName = "openAI/subscriptions/{}/sku", key = "${this.getSubscriptionId()}")
-    private List<ResourceSku> listCognitiveAccountSku() {
-        this.getSubscriptionId();
+    @Override
+    protected void invalidateCache() {
+        super.invalidateCache();
+        this.skuCatalog.invalidateAll();
+        this.models.invalidateAll();
+    }
+
+    @Nullable
+    private SkuCatalog loadSkuCatalog(@Nonnull String subscriptionId) {
         final CognitiveServicesManager remote = getParent().getRemote();
         if (Objects.isNull(remote)) {
-            return Collections.emptyList();
+            return null;
         }
-        return remote.resourceSkus().list().stream()
+        final List<ResourceSku> skus = remote.resourceSkus().list().stream()
             .filter(s -> StringUtils.equalsIgnoreCase(s.kind(), "OpenAI") && StringUtils.equalsIgnoreCase(s.resourceType(), "accounts"))
             .collect(Collectors.toList());
+        return skus.isEmpty() ? null : new SkuCatalog(skus); // null is not cached.
+    }
+
+    @Nullable
+    private List<AccountModel> loadModels(@Nonnull String region) {
+        return Optional.ofNullable(getParent().getRemote())
+            .map(CognitiveServicesManager::models)
+            .map(models -> models.list(region).stream().map(AccountModel::fromModel).collect(Collectors.toList()))
+            .filter(models -> !models.isEmpty()) // null is not cached.
+            .orElse(null);
+    }
+
+    /**
+     * OpenAI account skus of a subscription indexed by region and by sku (name and tier).
+     */
+    private static class SkuCatalog {
+        private final List<AccountSku> skus;
+        private final List<Region> regions;
+        private final Map<String, List<AccountSku>> skusByRegion = new HashMap<>();
+        private final Map<String, List<Region>> regionsBySku = new HashMap<>();
+
+        SkuCatalog(@Nonnull List<ResourceSku> resourceSkus) {
+            final Set<AccountSku> skus = new LinkedHashSet<>();
+            final Set<Region> regions = new LinkedHashSet<>();
+            final Map<String, Set<AccountSku>> skusByRegion = new LinkedHashMap<>();
+            final Map<String, Set<Region>> regionsBySku = new LinkedHashMap<>();
+            for (final ResourceSku resourceSku : resourceSkus) {
+                final AccountSku sku = AccountSku.fromSku(resourceSku);
+                skus.add(sku);
+                for (final String location : resourceSku.locations()) {
+                    final Region region = Region.fromName(location);
+                    regions.add(region);
+                    skusByRegion.computeIfAbsent(StringUtils.lowerCase(location), k -> new LinkedHashSet<>()).add(sku);
+                    regionsBySku.computeIfAbsent(key(resourceSku.name(), resourceSku.tier()), k -> new LinkedHashSet<>()).add(region);
+                }
+            }
+            this.skus = Collections.unmodifiableList(new ArrayList<>(skus));
+            this.regions = Collections.unmodifiableList(new ArrayList<>(regions));
+            skusByRegion.forEach((k, v) -> this.skusByRegion.put(k, Collections.unmodifiableList(new ArrayList<>(v))));
+            regionsBySku.forEach((k, v) -> this.regionsBySku.put(k, Collections.unmodifiableList(new ArrayList<>(v))));
+        }
+
+        @Nonnull
+        static String key(@Nullable String name, @Nullable String tier) {
+            return String.format("%s/%s", StringUtils.lowerCase(name), StringUtils.lowerCase(tier));
+        }
     }
 
     @Nonnull
@@ -47,8 +47,11 @@ public class AzureConfiguration {
     private int pageSize = 99;
     private List<String> documentsLabelFields = new ArrayList<>(DEFAULT_DOCUMENT_LABEL_FIELDS);
     private int monitorQueryRowNumber = 200;
+    private int monitorQueryTimeoutInSeconds = 10;
     private boolean authPersistenceEnabled = true;
     private String eventHubsConsumerGroup = "$Default";
+    private int serviceBusPrefetchCount = 100;
+    private int serviceBusMaxConcurrentCalls = 4;
 
     private String azuritePath;
     private String azuriteWorkspace;
@@ -56,6 +59,10 @@ public class AzureConfiguration {
 
     private Boolean enablePreloading = false;
 
+    // size of the shared I/O pool, 0 means 10 threads per core.
+    private int ioThreadPoolSize = 0;
+    private boolean virtualThreadsEnabled = false;
+
     public void setProxyInfo(ProxyInfo proxy) {
         this.setProxySource(proxy.getSource());
         this.setHttpProxyHost(proxy.getHost());
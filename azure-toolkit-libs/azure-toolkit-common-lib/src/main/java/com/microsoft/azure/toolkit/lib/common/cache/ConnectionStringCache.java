@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * connection strings of messaging resources (e.g. event hubs, service bus) are resolved through authorization rules
+ * (list, create if missing, list keys), which costs several management calls, so they are cached per access rights
+ * until expired or invalidated, e.g. when the resource is deleted or its keys are rotated.
+ *
+ * @param <R> type of the access rights
+ */
+public class ConnectionStringCache<R> {
+    private static final long TTL_MINUTES = 30;
+
+    @Nonnull
+    private final Function<List<R>, String> loader;
+    private final Cache<String, String> connectionStrings = Caffeine.newBuilder()
+        .expireAfterWrite(TTL_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    public ConnectionStringCache(@Nonnull Function<List<R>, String> loader) {
+        this.loader = loader;
+    }
+
+    public String get(@Nonnull List<R> accessRights) {
+        return this.connectionStrings.get(StringUtils.join(accessRights, "-"), k -> this.loader.apply(accessRights));
+    }
+
+    public void invalidateAll() {
+        this.connectionStrings.invalidateAll();
+    }
+}
@@ -7,23 +7,33 @@ package com.microsoft.azure.toolkit.lib.common.cache;
 
 import com.microsoft.azure.toolkit.lib.AzService;
 import com.microsoft.azure.toolkit.lib.Azure;
+import com.microsoft.azure.toolkit.lib.common.utils.ClasspathIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class Preloader {
 
+    private static final String[] PACKAGES = {"com.microsoft.azure.toolkit", "com.microsoft.azuretools"};
     private static final String INVALID_PRELOAD_METHOD = "@Preload annotated method(%s.%s) should have (no args or only varargs) " +
             "and must be (static or in a singleton class)";
 
@@ -89,10 +99,42 @@ public class Preloader {
     }
 
     private static Set<Method> getPreloadingMethods() {
-        final ConfigurationBuilder configuration = new ConfigurationBuilder()
-                .forPackages("com.microsoft.azure.toolkit", "com.microsoft.azuretools")
-                .setScanners(Scanners.MethodsAnnotated);
-        final Reflections reflections = new Reflections(configuration);
-        return reflections.getMethodsAnnotatedWith(Preload.class);
+        final ClassLoader classLoader = Preloader.class.getClassLoader();
+        final ClasspathIndex index = ClasspathIndex.load(ClasspathIndex.PRELOAD_INDEX, classLoader);
+        final Set<Method> methods = new HashSet<>();
+        index.getEntries().forEach(entry -> methods.addAll(getIndexedMethods(entry, classLoader)));
+        // fallback to scanning jars without the index, e.g. built without it.
+        final Set<URL> roots = new HashSet<>();
+        Arrays.stream(PACKAGES).forEach(p -> roots.addAll(ClasspathHelper.forPackage(p, classLoader)));
+        final Set<URL> unindexed = index.getUnindexedRoots(roots);
+        if (!unindexed.isEmpty()) {
+            log.debug(String.format("Scanning %d unindexed classpath roots for @Preload", unindexed.size()));
+            final FilterBuilder filter = new FilterBuilder();
+            Arrays.stream(PACKAGES).forEach(filter::includePackage);
+            final ConfigurationBuilder configuration = new ConfigurationBuilder()
+                    .setUrls(unindexed)
+                    .addClassLoaders(classLoader)
+                    .filterInputsBy(filter)
+                    .setScanners(Scanners.MethodsAnnotated);
+            methods.addAll(new Reflections(configuration).getMethodsAnnotatedWith(Preload.class));
+        }
+        return methods;
+    }
+
+    /**
+     * @param entry index entry in form of {@code fully.qualified.ClassName#methodName}
+     */
+    private static Collection<Method> getIndexedMethods(final String entry, final ClassLoader classLoader) {
+        final String className = StringUtils.substringBefore(entry, "#");
+        final String methodName = StringUtils.substringAfter(entry, "#");
+        try {
+            final Class<?> clazz = Class.forName(className, false, classLoader);
+            return Arrays.stream(clazz.getDeclaredMethods())
+                    .filter(m -> m.getName().equals(methodName) && m.isAnnotationPresent(Preload.class))
+                    .collect(Collectors.toList());
+        } catch (final ClassNotFoundException | LinkageError e) {
+            log.debug(String.format("Skip invalid @Preload index entry [%s]", entry));
+            return Collections.emptyList();
+        }
     }
 }
@@ -5,47 +5,74 @@
 
 package com.microsoft.azure.toolkit.lib.common.event;
 
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NonNls;
 import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-@SuppressWarnings("UnstableApiUsage")
+/**
+ * events are collected and dispatched by one dispatcher in batches: duplicate events (same type, source and payload)
+ * emitted within a short window are coalesced into one, and every listener consumes its events sequentially from its
+ * own bounded queue, events overflowing the queue of a slow listener are dropped.
+ */
+@Slf4j
 public class AzureEventBus {
+    private static final long COALESCING_WINDOW_MILLIS = 50;
+    private static final int MAX_PENDING_EVENTS = 10000;
+    private static final int MAX_LISTENER_QUEUE_SIZE = 1000;
+
     @NonNls
-    private static final Map<String, EventBus> buses = new ConcurrentHashMap<>();
+    private static final Map<String, Set<EventListener>> listeners = new ConcurrentHashMap<>();
+    private static final Object lock = new Object();
+    private static final Object dispatchLock = new Object();
+    private static Map<EventKey, AzureEvent> pending = new LinkedHashMap<>();
+    private static final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+
+    private static final AtomicLong emitted = new AtomicLong();
+    private static final AtomicLong coalesced = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong delivered = new AtomicLong();
+    private static final AtomicInteger listenerQueueDepth = new AtomicInteger();
 
     public static void on(@Nonnull final String type, @Nonnull EventListener listener) {
-        getBus(type).register(listener);
+        listeners.computeIfAbsent(type, t -> new CopyOnWriteArraySet<>()).add(listener);
     }
 
     public static void off(@Nonnull final String type, @Nonnull EventListener listener) {
-        try {
-            getBus(type).unregister(listener);
-        } catch (final IllegalArgumentException e) {
-            // swallow exception during unregistering a listener which is not registered
-        }
+        listeners.getOrDefault(type, Collections.emptySet()).remove(listener);
     }
 
     public static void once(@Nonnull final String type, @Nonnull BiConsumer<Object, Object> listener) {
-        final EventBus bus = getBus(type);
         final EventListener[] listeners = new EventListener[1];
+        final AtomicBoolean fired = new AtomicBoolean(false);
         listeners[0] = new EventListener((e) -> {
-            listener.accept(e.getSource(), e.getPayload());
-            bus.unregister(listeners[0]);
+            // more events may have been queued to the listener before it's removed.
+            if (fired.compareAndSet(false, true)) {
+                off(type, listeners[0]);
+                listener.accept(e.getSource(), e.getPayload());
+            }
         });
-        bus.register(listeners[0]);
+        on(type, listeners[0]);
     }
 
     public static void emit(@Nonnull final String type) {
@@ -61,11 +88,61 @@ public class AzureEventBus {
     }
 
     public static <T> void emit(@Nonnull final String type, @Nonnull AzureEvent event) {
-        getBus(type).post(event);
+        emitted.incrementAndGet();
+        final EventKey key = new EventKey(type, event.getSource(), event.getPayload());
+        synchronized (lock) {
+            if (pending.containsKey(key)) {
+                coalesced.incrementAndGet();
+                pending.put(key, event); // the latest wins, but keeps the position of the first.
+            } else if (pending.size() >= MAX_PENDING_EVENTS) {
+                dropped.incrementAndGet();
+                log.warn("dropped event({}), too many pending events.", type);
+                return;
+            } else {
+                pending.put(key, event);
+            }
+        }
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            Schedulers.boundedElastic().schedule(AzureEventBus::dispatch, COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void dispatch() {
+        // batches are offered one after another, so that listeners receive events in the emitting order.
+        synchronized (dispatchLock) {
+            final Map<EventKey, AzureEvent> batch;
+            synchronized (lock) {
+                dispatchScheduled.set(false);
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+            batch.forEach((key, event) -> listeners.getOrDefault(key.type, Collections.emptySet()).forEach(l -> l.offer(event)));
+        }
+    }
+
+    /**
+     * number of events waiting to be dispatched or consumed by listeners.
+     */
+    public static int getQueueDepth() {
+        synchronized (lock) {
+            return pending.size() + listenerQueueDepth.get();
+        }
+    }
+
+    public static long getEmittedCount() {
+        return emitted.get();
+    }
+
+    public static long getCoalescedCount() {
+        return coalesced.get();
     }
 
-    private static EventBus getBus(String eventType) {
-        return buses.computeIfAbsent(eventType, (e) -> new AsyncEventBus(command -> Schedulers.boundedElastic().schedule(command)));
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public static long getDeliveredCount() {
+        return delivered.get();
     }
 
     @RequiredArgsConstructor
@@ -73,11 +150,56 @@ public class AzureEventBus {
 
         @Nonnull
         private final Consumer<AzureEvent> listener;
+        private final Queue<AzureEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final AtomicBoolean consuming = new AtomicBoolean(false);
 
-        @Subscribe
         public void onEvent(@Nonnull AzureEvent event) {
             this.listener.accept(event);
         }
+
+        private void offer(@Nonnull AzureEvent event) {
+            if (this.queueSize.incrementAndGet() > MAX_LISTENER_QUEUE_SIZE) {
+                this.queueSize.decrementAndGet();
+                dropped.incrementAndGet();
+                log.warn("dropped event({}), listener is too slow to consume events.", event.getType());
+                return;
+            }
+            listenerQueueDepth.incrementAndGet();
+            this.queue.add(event);
+            if (this.consuming.compareAndSet(false, true)) {
+                Schedulers.boundedElastic().schedule(this::consume);
+            }
+        }
+
+        private void consume() {
+            do {
+                AzureEvent event;
+                while ((event = this.queue.poll()) != null) {
+                    this.queueSize.decrementAndGet();
+                    listenerQueueDepth.decrementAndGet();
+                    try {
+                        this.onEvent(event);
+                        delivered.incrementAndGet();
+                    } catch (final Throwable t) {
+                        log.warn("error occurs when handling event({}).", event.getType(), t);
+                    }
+                }
+                this.consuming.set(false);
+                // events offered after the queue was drained but before the flag is reset.
+            } while (!this.queue.isEmpty() && this.consuming.compareAndSet(false, true));
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class EventKey {
+        @Nonnull
+        private final String type;
+        @Nullable
+        private final Object source;
+        @Nullable
+        private final Object payload;
     }
 
     @Getter
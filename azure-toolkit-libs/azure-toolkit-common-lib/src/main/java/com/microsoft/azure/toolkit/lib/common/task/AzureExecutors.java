@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.task;
+
+import com.microsoft.azure.toolkit.lib.Azure;
+import com.microsoft.azure.toolkit.lib.AzureConfiguration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import rx.plugins.RxJavaHooks;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * shared executors of toolkit, with separate bounded pools for I/O (blocking) tasks, CPU bound tasks and timers.
+ * they can be used directly, or through reactor/rx schedulers, see {@link #register()}.
+ */
+@Slf4j
+@Getter
+public class AzureExecutors {
+    private static final int KEEP_ALIVE_SECONDS = 60;
+    private static final int TIMER_THREADS = 2;
+
+    @Nonnull
+    private final ScheduledThreadPoolExecutor io;
+    @Nonnull
+    private final ScheduledThreadPoolExecutor cpu;
+    @Nonnull
+    private final ScheduledThreadPoolExecutor timer;
+    @Nonnull
+    private final Scheduler reactorIo;
+    @Nonnull
+    private final Scheduler reactorCpu;
+    @Nonnull
+    private final rx.Scheduler rxIo;
+    @Nonnull
+    private final rx.Scheduler rxCpu;
+
+    private static class Holder {
+        private static final AzureExecutors instance = create();
+
+        @Nonnull
+        private static AzureExecutors create() {
+            final AzureConfiguration config = Azure.az().config();
+            final int cores = Runtime.getRuntime().availableProcessors();
+            final int ioThreads = config.getIoThreadPoolSize() > 0 ? config.getIoThreadPoolSize() : 10 * cores;
+            return new AzureExecutors(ioThreads, cores, config.isVirtualThreadsEnabled());
+        }
+    }
+
+    public static AzureExecutors getInstance() {
+        return Holder.instance;
+    }
+
+    AzureExecutors(int ioThreads, int cpuThreads, boolean virtualThreadsEnabled) {
+        final ThreadFactory ioFactory = Optional.ofNullable(virtualThreadsEnabled ? virtualThreadFactory("azure-toolkit-io-") : null)
+            .orElseGet(() -> new NamedThreadFactory("azure-toolkit-io-"));
+        this.io = newPool(ioThreads, ioFactory);
+        this.cpu = newPool(cpuThreads, new NamedThreadFactory("azure-toolkit-cpu-"));
+        this.timer = newPool(TIMER_THREADS, new NamedThreadFactory("azure-toolkit-timer-"));
+        this.reactorIo = Schedulers.fromExecutorService(new NonDisposableExecutor(this.io), "azure-toolkit-io");
+        this.reactorCpu = Schedulers.fromExecutorService(new NonDisposableExecutor(this.cpu), "azure-toolkit-cpu");
+        this.rxIo = rx.schedulers.Schedulers.from(this.io);
+        this.rxCpu = rx.schedulers.Schedulers.from(this.cpu);
+    }
+
+    /**
+     * route reactor's bounded elastic/parallel schedulers and rx's io/computation schedulers to the shared pools,
+     * so that total concurrency of background work is bounded.
+     */
+    public static synchronized void register() {
+        final AzureExecutors executors = getInstance();
+        Schedulers.setFactory(new Schedulers.Factory() {
+            @Override
+            public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory, int ttlSeconds) {
+                return executors.reactorIo;
+            }
+
+            @Override
+            public Scheduler newParallel(int parallelism, ThreadFactory threadFactory) {
+                return executors.reactorCpu;
+            }
+        });
+        RxJavaHooks.setOnIOScheduler(s -> executors.rxIo);
+        RxJavaHooks.setOnComputationScheduler(s -> executors.rxCpu);
+    }
+
+    @Nonnull
+    public List<PoolMetrics> getMetrics() {
+        return Arrays.asList(new PoolMetrics("io", this.io), new PoolMetrics("cpu", this.cpu), new PoolMetrics("timer", this.timer));
+    }
+
+    void shutdown() {
+        this.io.shutdownNow();
+        this.cpu.shutdownNow();
+        this.timer.shutdownNow();
+    }
+
+    @Nonnull
+    private static ScheduledThreadPoolExecutor newPool(int threads, @Nonnull ThreadFactory factory) {
+        // threads are created on demand up to the core size, and retired when idle.
+        final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(threads, factory);
+        pool.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        pool.allowCoreThreadTimeOut(true);
+        pool.setRemoveOnCancelPolicy(true);
+        return pool;
+    }
+
+    /**
+     * @return factory of virtual threads if running on JDK 21+, otherwise {@code null}.
+     */
+    @Nullable
+    private static ThreadFactory virtualThreadFactory(@Nonnull String prefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException e) {
+            log.debug("virtual threads are not available, fallback to platform threads.");
+            return null;
+        }
+    }
+
+    /**
+     * view of a shared pool for reactor schedulers. reactor shuts down the executor of a scheduler when disposing it
+     * (e.g. on {@link Schedulers#setFactory}, {@link Schedulers#resetFactory} or {@link Schedulers#shutdownNow}),
+     * which must not shut down the shared pool.
+     */
+    @RequiredArgsConstructor
+    private static class NonDisposableExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+        private final ScheduledExecutorService delegate;
+
+        @Override
+        public void execute(@Nonnull Runnable command) {
+            this.delegate.execute(command);
+        }
+
+        @Nonnull
+        @Override
+        public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+            return this.delegate.schedule(command, delay, unit);
+        }
+
+        @Nonnull
+        @Override
+        public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+            return this.delegate.schedule(callable, delay, unit);
+        }
+
+        @Nonnull
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(@Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+            return this.delegate.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        @Nonnull
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(@Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+            return this.delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Nonnull
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+            return this.delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+        private final String prefix;
+
+        @Override
+        public Thread newThread(@Nonnull Runnable r) {
+            final Thread thread = new Thread(r, this.prefix + this.count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    @Getter
+    public static class PoolMetrics {
+        private final String name;
+        private final int poolSize;
+        private final int largestPoolSize;
+        private final int activeCount;
+        private final int queueSize;
+        private final long completedTaskCount;
+
+        PoolMetrics(@Nonnull String name, @Nonnull ScheduledThreadPoolExecutor pool) {
+            this.name = name;
+            this.poolSize = pool.getPoolSize();
+            this.largestPoolSize = pool.getLargestPoolSize();
+            this.activeCount = pool.getActiveCount();
+            this.queueSize = pool.getQueue().size();
+            this.completedTaskCount = pool.getCompletedTaskCount();
+        }
+    }
+}
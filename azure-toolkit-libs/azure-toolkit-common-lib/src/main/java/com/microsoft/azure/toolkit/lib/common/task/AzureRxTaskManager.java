@@ -23,6 +23,7 @@ public class AzureRxTaskManager {
             throw new IllegalStateException("rx task manager has already been registered.");
         }
         registered = true;
+        AzureExecutors.register();
         final Func2<Observable, Observable.OnSubscribe, Observable.OnSubscribe> oldObservableStartHooks = RxJavaHooks.getOnObservableStart();
         final Func2<Completable, Completable.OnSubscribe, Completable.OnSubscribe> oldCompletableStartHooks = RxJavaHooks.getOnCompletableStart();
         final Func2<Single, Single.OnSubscribe, Single.OnSubscribe> oldSingleStartHooks = RxJavaHooks.getOnSingleStart();
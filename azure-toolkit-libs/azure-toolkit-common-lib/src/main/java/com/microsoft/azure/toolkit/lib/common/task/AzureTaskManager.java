@@ -10,8 +10,6 @@ import com.microsoft.azure.toolkit.lib.common.operation.AzureOperationAspect;
 import com.microsoft.azure.toolkit.lib.common.operation.OperationThreadContext;
 import com.microsoft.azure.toolkit.lib.common.telemetry.AzureTelemeter;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import java.util.Iterator;
@@ -49,6 +47,13 @@ public abstract class AzureTaskManager {
         return Holder.instance;
     }
 
+    /**
+     * shared bounded executors for I/O, CPU bound tasks and timers.
+     */
+    public static AzureExecutors getExecutors() {
+        return AzureExecutors.getInstance();
+    }
+
     public final CompletableFuture<Void> read(Runnable task) {
         return this.read(new AzureTask<>(task));
     }
@@ -327,7 +332,7 @@ public abstract class AzureTaskManager {
 
         @Override
         protected void doRunOnPooledThread(Runnable runnable, AzureTask<?> task) {
-            Mono.fromRunnable(runnable).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            getExecutors().getIo().execute(runnable);
         }
 
         @Override
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * index files packaged in jars (e.g. {@code META-INF/azure-toolkit/preload.idx}), one entry per line and lines
+ * starting with {@code #} are comments. the index files of toolkit modules are generated at build time by
+ * azure-toolkit-index-processor. it's used to avoid scanning the whole classpath at runtime, classpath roots
+ * without the index file (e.g. jars not built with the processor) can still be scanned, see {@link #getUnindexedRoots(Collection)}.
+ */
+@Slf4j
+@Getter
+public class ClasspathIndex {
+    public static final String PRELOAD_INDEX = "META-INF/azure-toolkit/preload.idx";
+    public static final String SCHEMA_INDEX = "META-INF/azure-toolkit/schema.idx";
+
+    @Nonnull
+    private final Set<String> entries = new LinkedHashSet<>();
+    @Nonnull
+    private final Set<String> indexedRoots = new HashSet<>();
+
+    private ClasspathIndex() {
+    }
+
+    @Nonnull
+    public static ClasspathIndex load(@Nonnull final String indexPath, @Nonnull final ClassLoader classLoader) {
+        final ClasspathIndex index = new ClasspathIndex();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(indexPath);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                try (final InputStream is = url.openStream()) {
+                    IOUtils.readLines(is, StandardCharsets.UTF_8).stream().map(String::trim)
+                        .filter(line -> StringUtils.isNotEmpty(line) && !line.startsWith("#"))
+                        .forEach(index.entries::add);
+                }
+                // e.g. `jar:file:/x.jar!/` or `file:/x/classes/`, the same as roots found by reflections.
+                final String external = url.toExternalForm();
+                index.indexedRoots.add(external.substring(0, external.length() - indexPath.length()));
+            }
+        } catch (final IOException e) {
+            log.debug("failed to load classpath index {}.", indexPath, e);
+        }
+        return index;
+    }
+
+    /**
+     * @return classpath roots which don't provide the index and need to be scanned.
+     */
+    @Nonnull
+    public Set<URL> getUnindexedRoots(@Nonnull final Collection<URL> roots) {
+        return roots.stream().filter(root -> !this.indexedRoots.contains(root.toExternalForm())).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * resolves public IP of the local machine (e.g. for firewall rules of database servers). the resolved IP is shared
+ * and cached for a short while, concurrent resolutions are collapsed into one. a probe (e.g. a login attempt to a
+ * server, whose error message contains the client IP) is tried first, then public "what is my ip" services.
+ */
+@Slf4j
+public class PublicIpResolver {
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final PublicIpResolver instance = new PublicIpResolver(NetUtils::getPublicIp, TTL);
+
+    @Nonnull
+    private final Supplier<String> fallback;
+    private final long ttlNanos;
+    @Nullable
+    private volatile Entry cached;
+    @Nullable
+    private CompletableFuture<String> resolving;
+
+    PublicIpResolver(@Nonnull Supplier<String> fallback, @Nonnull Duration ttl) {
+        this.fallback = fallback;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public static PublicIpResolver getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param probe tried first if there is no cached IP, returns the IP (or a message containing it) or {@code null}.
+     * @return public IP of local machine, or empty string if it can not be resolved.
+     */
+    @Nonnull
+    public String resolve(@Nullable Callable<String> probe) {
+        final String ip = this.getCached();
+        if (Objects.nonNull(ip)) {
+            return ip;
+        }
+        final CompletableFuture<String> future;
+        final boolean owner;
+        synchronized (this) {
+            final String current = this.getCached();
+            if (Objects.nonNull(current)) {
+                return current;
+            }
+            owner = Objects.isNull(this.resolving);
+            if (owner) {
+                this.resolving = new CompletableFuture<>();
+            }
+            future = this.resolving;
+        }
+        if (owner) {
+            try {
+                final String resolved = this.doResolve(probe);
+                if (StringUtils.isNotBlank(resolved)) {
+                    this.cached = new Entry(resolved, System.nanoTime() + this.ttlNanos);
+                }
+                future.complete(resolved);
+            } catch (final Throwable t) {
+                future.complete(StringUtils.EMPTY);
+            } finally {
+                synchronized (this) {
+                    this.resolving = null;
+                }
+            }
+        }
+        return future.join();
+    }
+
+    /**
+     * drop the cached IP, e.g. when the network of local machine is changed.
+     */
+    public void invalidate() {
+        this.cached = null;
+    }
+
+    /**
+     * @return probe which tries to login to a database server via jdbc, the server rejects the login with a message
+     * containing the client IP if it's not allowed by firewall rules.
+     */
+    @Nonnull
+    public static Callable<String> jdbcLoginProbe(@Nonnull String driverClass, @Nonnull String url, @Nonnull String username) {
+        return () -> {
+            try {
+                Class.forName(driverClass);
+                DriverManager.getConnection(url, username, null).close();
+            } catch (final SQLException e) {
+                return e.getMessage();
+            } catch (final ClassNotFoundException ignored) {
+            }
+            return null;
+        };
+    }
+
+    @Nullable
+    private String getCached() {
+        final Entry entry = this.cached;
+        return Objects.nonNull(entry) && entry.expiresAt - System.nanoTime() > 0 ? entry.ip : null;
+    }
+
+    @Nonnull
+    private String doResolve(@Nullable Callable<String> probe) {
+        if (Objects.nonNull(probe)) {
+            try {
+                final String ip = StringUtils.trim(NetUtils.parseIpAddressFromMessage(probe.call()));
+                if (isValid(ip)) {
+                    return ip;
+                }
+            } catch (final Exception e) {
+                log.debug("failed to resolve public ip by probe.", e);
+            }
+        }
+        // Alternatively, get public IP by ping public URL
+        final String ip = StringUtils.trim(this.fallback.get());
+        return isValid(ip) ? ip : StringUtils.EMPTY;
+    }
+
+    private static boolean isValid(@Nullable String ip) {
+        return StringUtils.isNotBlank(ip) && NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find();
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String ip;
+        private final long expiresAt;
+    }
+}
@@ -5,17 +5,33 @@
 
 package com.microsoft.azure.toolkit.lib.common.utils;
 
-import rx.Observable;
-import rx.Subscription;
-import rx.schedulers.Schedulers;
+import com.microsoft.azure.toolkit.lib.common.task.AzureTaskManager;
 
-import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * debouncer based on the shared {@link TimerWheel}: re-arming just moves the deadline, the debounced action is
+ * executed on the shared I/O pool when the (last) deadline is reached.
+ */
 public class TailingDebouncer implements Debouncer {
     private final Runnable debounced;
     private final int delay;
-    private Subscription timer;
+    private final TimerWheel.Timeout timeout = new TimerWheel.Timeout() {
+        @Override
+        boolean expire(long now) {
+            return TailingDebouncer.this.expire(now);
+        }
+
+        @Override
+        long getDeadline() {
+            return TailingDebouncer.this.deadline;
+        }
+    };
+    private volatile long deadline;
+    private boolean armed;
+    private boolean scheduled;
+    private boolean running;
 
     public TailingDebouncer(final Runnable debounced, final int delayInMillis) {
         this.debounced = debounced;
@@ -24,16 +40,16 @@ public class TailingDebouncer implements Debouncer {
 
     @Override
     public synchronized void debounce(int delay) {
-        if (this.isPending()) {
-            this.timer.unsubscribe();
-        }
         delay = delay < 0 ? this.delay : delay;
-        this.timer = Observable.timer(delay, TimeUnit.MILLISECONDS)
-            .subscribeOn(Schedulers.io())
-            .subscribe(ignore -> {
-                this.debounced.run();
-                this.clearTimer();
-            }, (e) -> this.clearTimer());
+        final long previous = this.deadline;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        if (!this.scheduled) {
+            this.scheduled = true;
+            TimerWheel.INSTANCE.schedule(this.timeout, this.deadline);
+        } else if (!this.armed || this.deadline - previous < 0) { // deadline is moved earlier.
+            TimerWheel.INSTANCE.reschedule(this.timeout, this.deadline);
+        }
+        this.armed = true;
     }
 
     @Override
@@ -42,16 +58,39 @@ public class TailingDebouncer implements Debouncer {
     }
 
     public synchronized void cancel() {
-        if (this.isPending()) {
-            this.timer.unsubscribe();
-        }
+        this.armed = false; // removed from the wheel when its bucket expires.
     }
 
     public synchronized boolean isPending() {
-        return Objects.nonNull(this.timer) && !this.timer.isUnsubscribed();
+        return this.armed || this.running;
     }
 
-    private synchronized void clearTimer() {
-        this.timer = null;
+    private synchronized boolean expire(long now) {
+        if (!this.armed) {
+            this.scheduled = false;
+            return false;
+        }
+        if (this.deadline - now > 0) { // deadline is moved later.
+            return true;
+        }
+        this.armed = false;
+        this.scheduled = false;
+        this.running = true;
+        try {
+            AzureTaskManager.getExecutors().getIo().execute(this::run);
+        } catch (final RejectedExecutionException e) {
+            this.running = false;
+        }
+        return false;
+    }
+
+    private void run() {
+        try {
+            this.debounced.run();
+        } finally {
+            synchronized (this) {
+                this.running = false;
+            }
+        }
     }
 }
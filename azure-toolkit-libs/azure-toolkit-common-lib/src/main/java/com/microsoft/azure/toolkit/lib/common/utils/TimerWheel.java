@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hashed timer wheel driven by one daemon thread. timeouts are intrusive list nodes, so (re)scheduling allocates
+ * nothing. a timeout whose deadline is moved later is simply re-bucketed when its current bucket expires, one whose
+ * deadline is moved earlier must be {@link #reschedule(Timeout, long) rescheduled}.
+ * the thread parks when no timeout is scheduled.
+ */
+@Slf4j
+final class TimerWheel {
+    static final TimerWheel INSTANCE = new TimerWheel(10, 512);
+
+    private final long tickNanos;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final long startTime = System.nanoTime();
+    private long tick; // next tick to process, guarded by this.
+    private int size;
+    @Nullable
+    private Thread worker;
+
+    private TimerWheel(long tickMillis, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = wheelSize - 1; // wheelSize must be power of 2
+        this.buckets = new Timeout[wheelSize];
+    }
+
+    /**
+     * @param deadline in {@link System#nanoTime()}, must not be called for a timeout already scheduled.
+     */
+    synchronized void schedule(@Nonnull Timeout timeout, long deadline) {
+        this.addToBucket(timeout, this.toTick(deadline));
+        this.size++;
+        if (this.worker == null) {
+            this.worker = new Thread(this::run, "azure-toolkit-timer-wheel");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else if (this.size == 1) {
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * move a scheduled timeout to an earlier bucket if {@code deadline} is before its current one.
+     */
+    synchronized void reschedule(@Nonnull Timeout timeout, long deadline) {
+        final long target = this.toTick(deadline);
+        if (timeout.bucket < 0 || target >= timeout.tick) {
+            // being expired (it's re-bucketed by its new deadline then) or already in an early enough bucket.
+            return;
+        }
+        Timeout prev = null;
+        Timeout current = this.buckets[timeout.bucket];
+        while (current != null && current != timeout) {
+            prev = current;
+            current = current.next;
+        }
+        if (current == null) {
+            return;
+        }
+        if (prev == null) {
+            this.buckets[timeout.bucket] = timeout.next;
+        } else {
+            prev.next = timeout.next;
+        }
+        this.addToBucket(timeout, target);
+    }
+
+    private long toTick(long deadline) {
+        return Math.max((deadline - this.startTime + this.tickNanos - 1) / this.tickNanos, this.tick);
+    }
+
+    private void addToBucket(@Nonnull Timeout timeout, long target) {
+        final int index = (int) (target & this.mask);
+        timeout.tick = target;
+        timeout.bucket = index;
+        timeout.next = this.buckets[index];
+        this.buckets[index] = timeout;
+    }
+
+    private void run() {
+        //noinspection InfiniteLoopStatement
+        while (true) {
+            try {
+                Timeout expired = this.awaitNextTick();
+                final long now = System.nanoTime();
+                while (expired != null) {
+                    final Timeout next = expired.next;
+                    expired.next = null;
+                    try {
+                        if (expired.expire(now)) {
+                            this.schedule(expired, expired.getDeadline());
+                        }
+                    } catch (final Throwable t) {
+                        log.warn("error occurs when expiring timeout.", t);
+                    }
+                    expired = next;
+                }
+            } catch (final InterruptedException e) {
+                log.debug("timer wheel is interrupted.");
+            }
+        }
+    }
+
+    @Nullable
+    private synchronized Timeout awaitNextTick() throws InterruptedException {
+        if (this.size == 0) {
+            while (this.size == 0) {
+                this.wait();
+            }
+            // was parked, skip the ticks passed in between.
+            this.tick = Math.max(this.tick, (System.nanoTime() - this.startTime) / this.tickNanos);
+        }
+        long remaining;
+        while ((remaining = this.startTime + (this.tick + 1) * this.tickNanos - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        final int index = (int) (this.tick & this.mask);
+        final Timeout expired = this.buckets[index];
+        this.buckets[index] = null;
+        for (Timeout t = expired; t != null; t = t.next) {
+            t.bucket = -1;
+            this.size--;
+        }
+        this.tick++;
+        return expired;
+    }
+
+    abstract static class Timeout {
+        @Nullable
+        private Timeout next;
+        // bucket index and tick this timeout is scheduled at, both guarded by the wheel.
+        private int bucket = -1;
+        private long tick;
+
+        /**
+         * called by the wheel thread when the bucket of this timeout expires.
+         *
+         * @return true if the timeout should be scheduled again at {@link #getDeadline()}.
+         */
+        abstract boolean expire(long now);
+
+        abstract long getDeadline();
+    }
+}
@@ -28,6 +28,8 @@ import java.math.BigInteger;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,6 +63,16 @@ public class Utils {
     private static final String START_CLASS = "Start-Class";
     private static final String DEFAULT_SPRING_BOOT_CLASSES = "BOOT-INF/classes/";
     public static final int DEFAULT_TIMEOUT = 10000;
+    private static final String CACHE_DIR = ".azure-toolkit/cache";
+
+    /**
+     * directory of the files cached by the toolkit across processes, e.g. discovered subscriptions, access tokens got
+     * from azure cli and vm catalogs.
+     */
+    @Nonnull
+    public static Path getCacheDir() {
+        return Paths.get(System.getProperty("user.home"), CACHE_DIR);
+    }
 
     public static String generateRandomResourceName(@Nonnull final String prefix, final int maxLength) {
         final String name = String.format("%s-%s", prefix, Utils.getTimestamp());
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
+import com.microsoft.azure.toolkit.lib.common.utils.ClasspathIndex;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
@@ -20,18 +21,24 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.fasterxml.jackson.databind.MapperFeature.AUTO_DETECT_CREATORS;
@@ -55,20 +62,38 @@ public class SchemaValidator {
     }
 
     private SchemaValidator() {
-        Optional.of(new Reflections("schema", Scanners.Resources))
-                .map(reflections -> {
-                    try {
-                        return reflections.getResources(".*\\.json");
-                    } catch (Exception exception) {
-                        return null;
-                    }
-                })
-                .orElse(Collections.emptySet())
-                .stream().map(resource -> Pair.of(resource, SchemaValidator.class.getResourceAsStream("/" + resource)))
+        getSchemaResources().stream()
+                .map(resource -> Pair.of(resource, SchemaValidator.class.getResourceAsStream("/" + resource)))
                 .filter(pair -> pair.getValue() != null)
                 .forEach(pair -> registerSchema(getSchemaId(pair.getKey()), pair.getValue()));
     }
 
+    private static Set<String> getSchemaResources() {
+        final ClassLoader classLoader = SchemaValidator.class.getClassLoader();
+        final ClasspathIndex index = ClasspathIndex.load(ClasspathIndex.SCHEMA_INDEX, classLoader);
+        final Set<String> resources = new LinkedHashSet<>(index.getEntries());
+        // fallback to scanning jars without the index.
+        final Set<URL> unindexed = index.getUnindexedRoots(ClasspathHelper.forPackage("schema", classLoader));
+        if (!unindexed.isEmpty()) {
+            final ConfigurationBuilder configuration = new ConfigurationBuilder()
+                    .setUrls(unindexed)
+                    .addClassLoaders(classLoader)
+                    .filterInputsBy(new FilterBuilder().includePackage("schema"))
+                    .setScanners(Scanners.Resources);
+            Optional.of(new Reflections(configuration))
+                    .map(reflections -> {
+                        try {
+                            return reflections.getResources(".*\\.json");
+                        } catch (Exception exception) {
+                            return null;
+                        }
+                    })
+                    .orElse(Collections.emptySet())
+                    .forEach(resources::add);
+        }
+        return resources;
+    }
+
     public static SchemaValidator getInstance() {
         return LazyHolder.INSTANCE;
     }
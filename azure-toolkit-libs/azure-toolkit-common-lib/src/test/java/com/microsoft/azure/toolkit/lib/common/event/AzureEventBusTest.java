@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class AzureEventBusTest {
+
+    @Test
+    public void duplicatesAreCoalescedAndLatestWins() throws InterruptedException {
+        final String type = newType();
+        final List<AzureEvent> received = Collections.synchronizedList(new ArrayList<>());
+        AzureEventBus.on(type, new AzureEventBus.EventListener(received::add));
+        final Object source = new Object();
+        final long coalesced = AzureEventBus.getCoalescedCount();
+        final List<SequencedEvent> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(new SequencedEvent(type, source, "payload"));
+        }
+        events.forEach(e -> AzureEventBus.emit(type, e));
+        waitUntil(() -> received.size() >= 1);
+        Thread.sleep(200);
+        Assert.assertEquals(1, received.size());
+        Assert.assertSame(events.get(2), received.get(0));
+        Assert.assertEquals(2, AzureEventBus.getCoalescedCount() - coalesced);
+    }
+
+    @Test
+    public void eventsAreDeliveredInEmittingOrder() throws InterruptedException {
+        final String type = newType();
+        final List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> received.add(e.getPayload())));
+        final List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+            AzureEventBus.emit(type, null, i);
+            if (i % 50 == 0) {
+                Thread.sleep(20); // spread the events over several dispatches.
+            }
+        }
+        waitUntil(() -> received.size() >= expected.size());
+        Assert.assertEquals(expected, received);
+    }
+
+    @Test
+    public void onceFiresExactlyOnce() throws InterruptedException {
+        final String type = newType();
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger others = new AtomicInteger();
+        AzureEventBus.once(type, (source, payload) -> count.incrementAndGet());
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> others.incrementAndGet()));
+        AzureEventBus.emit(type, null, 1);
+        AzureEventBus.emit(type, null, 2);
+        waitUntil(() -> others.get() >= 2);
+        AzureEventBus.emit(type, null, 3);
+        waitUntil(() -> others.get() >= 3);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void overflowingEventsOfSlowListenerAreDropped() throws InterruptedException {
+        final String type = newType();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> {
+            awaitQuietly(blocked);
+            received.incrementAndGet();
+        }));
+        final long dropped = AzureEventBus.getDroppedCount();
+        final int total = 1100; // listener queue holds 1000 events, one more may be taken by the blocked consumer.
+        for (int i = 0; i < total; i++) {
+            AzureEventBus.emit(type, null, i);
+        }
+        waitUntil(() -> AzureEventBus.getDroppedCount() - dropped >= total - 1001);
+        blocked.countDown();
+        waitUntil(() -> received.get() + (AzureEventBus.getDroppedCount() - dropped) >= total);
+        Assert.assertEquals(total, received.get() + (AzureEventBus.getDroppedCount() - dropped));
+    }
+
+    @Test
+    public void noEventIsStrandedInListenerQueue() throws InterruptedException {
+        final String type = newType();
+        final AtomicInteger received = new AtomicInteger();
+        AzureEventBus.on(type, new AzureEventBus.EventListener(e -> received.incrementAndGet()));
+        final int threads = 4;
+        final int perThread = 200;
+        final ExecutorService emitters = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            emitters.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    AzureEventBus.emit(type, null, thread * perThread + i);
+                    if (i % 10 == 0) {
+                        sleepQuietly(1); // lets the consumer drain its queue and go idle now and then.
+                    }
+                }
+            });
+        }
+        emitters.shutdown();
+        Assert.assertTrue(emitters.awaitTermination(30, TimeUnit.SECONDS));
+        waitUntil(() -> received.get() >= threads * perThread);
+        Assert.assertEquals(threads * perThread, received.get());
+    }
+
+    private static String newType() {
+        return "test.event." + UUID.randomUUID();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class SequencedEvent implements AzureEvent {
+        @Nonnull
+        private final String type;
+        @Nullable
+        private final Object source;
+        @Nullable
+        private final Object payload;
+    }
+}
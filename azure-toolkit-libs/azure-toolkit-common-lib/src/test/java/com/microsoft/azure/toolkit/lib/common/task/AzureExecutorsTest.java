@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.task;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import rx.Observable;
+import rx.plugins.RxJavaHooks;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AzureExecutorsTest {
+    private static final int IO_THREADS = 4;
+    private static final int CPU_THREADS = 2;
+    private AzureExecutors executors;
+
+    @Before
+    public void setUp() {
+        this.executors = new AzureExecutors(IO_THREADS, CPU_THREADS, false);
+    }
+
+    @After
+    public void tearDown() {
+        this.executors.shutdown();
+    }
+
+    @Test
+    public void ioThreadsAreBounded() throws InterruptedException {
+        final int tasks = 100;
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            this.executors.getIo().execute(() -> {
+                sleep(10);
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        Assert.assertTrue(getMetrics("io").getLargestPoolSize() <= IO_THREADS);
+    }
+
+    @Test
+    public void reactorAndRxShareBoundedPools() {
+        Flux.range(0, 50)
+            .flatMap(i -> Mono.fromRunnable(() -> sleep(10)).subscribeOn(this.executors.getReactorIo()), 50)
+            .blockLast();
+        Observable.range(0, 50)
+            .flatMap(i -> Observable.fromCallable(() -> {
+                sleep(10);
+                return i;
+            }).subscribeOn(this.executors.getRxIo()))
+            .toBlocking().last();
+        Flux.range(0, 50)
+            .flatMap(i -> Mono.fromCallable(() -> i * i).subscribeOn(this.executors.getReactorCpu()))
+            .blockLast();
+        Assert.assertTrue(getMetrics("io").getLargestPoolSize() <= IO_THREADS);
+        Assert.assertTrue(getMetrics("cpu").getLargestPoolSize() <= CPU_THREADS);
+    }
+
+    @Test
+    public void registeredSchedulersRunOnSharedPools() {
+        try {
+            AzureExecutors.register();
+            final String reactorThread = Mono.fromCallable(() -> Thread.currentThread().getName())
+                .subscribeOn(Schedulers.boundedElastic()).block();
+            final String rxThread = Observable.fromCallable(() -> Thread.currentThread().getName())
+                .subscribeOn(rx.schedulers.Schedulers.io()).toBlocking().single();
+            Assert.assertNotNull(reactorThread);
+            Assert.assertTrue(reactorThread, reactorThread.startsWith("azure-toolkit-io-"));
+            Assert.assertTrue(rxThread, rxThread.startsWith("azure-toolkit-io-"));
+        } finally {
+            Schedulers.resetFactory();
+            RxJavaHooks.reset();
+        }
+    }
+
+    @Test
+    public void disposingSchedulersKeepsSharedPoolsAlive() {
+        try {
+            AzureExecutors.register();
+            Mono.fromRunnable(() -> sleep(1)).subscribeOn(Schedulers.boundedElastic()).block();
+            Mono.fromRunnable(() -> sleep(1)).subscribeOn(Schedulers.parallel()).block();
+            AzureExecutors.register(); // disposes cached schedulers created by the previous factory
+            Schedulers.shutdownNow();
+            final AzureExecutors shared = AzureExecutors.getInstance();
+            Assert.assertFalse(shared.getIo().isShutdown());
+            Assert.assertFalse(shared.getCpu().isShutdown());
+            final String thread = Mono.fromCallable(() -> Thread.currentThread().getName())
+                .subscribeOn(Schedulers.boundedElastic()).block();
+            Assert.assertNotNull(thread);
+            Assert.assertTrue(thread, thread.startsWith("azure-toolkit-io-"));
+        } finally {
+            Schedulers.resetFactory();
+            RxJavaHooks.reset();
+        }
+    }
+
+    @Test
+    public void timerRunsDelayedTasks() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(3);
+        this.executors.getTimer().scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(getMetrics("timer").getLargestPoolSize() <= 2);
+    }
+
+    private AzureExecutors.PoolMetrics getMetrics(String name) {
+        final List<AzureExecutors.PoolMetrics> metrics = this.executors.getMetrics();
+        return metrics.stream().filter(m -> m.getName().equals(name)).findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
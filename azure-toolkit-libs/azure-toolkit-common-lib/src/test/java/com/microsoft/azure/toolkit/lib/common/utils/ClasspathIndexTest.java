@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * the index files of this module are generated by azure-toolkit-index-processor at build time.
+ */
+public class ClasspathIndexTest {
+
+    @Test
+    public void indexOfThisModuleIsLoaded() {
+        final ClasspathIndex index = ClasspathIndex.load(ClasspathIndex.PRELOAD_INDEX, getClass().getClassLoader());
+        Assert.assertTrue(index.getEntries().contains("com.microsoft.azure.toolkit.lib.common.model.AbstractAzService#preload"));
+    }
+
+    @Test
+    public void indexedRootsAreNotScanned() throws Exception {
+        final ClasspathIndex index = ClasspathIndex.load(ClasspathIndex.SCHEMA_INDEX, getClass().getClassLoader());
+        final Set<URL> roots = getIndexedRoots(index);
+        Assert.assertTrue(index.getUnindexedRoots(roots).isEmpty());
+    }
+
+    private static Set<URL> getIndexedRoots(ClasspathIndex index) throws Exception {
+        final Set<URL> roots = new HashSet<>();
+        for (final String root : index.getIndexedRoots()) {
+            roots.add(new URL(root));
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PublicIpResolverTest {
+    private static final String CLIENT_IP = "20.30.40.50";
+
+    private ServerSocket server;
+    private Thread acceptor;
+    private final AtomicInteger logins = new AtomicInteger();
+
+    /**
+     * stub of a database server which rejects every login with the client IP in the message, like azure databases do.
+     */
+    @Before
+    public void setUp() throws IOException {
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.acceptor = new Thread(() -> {
+            while (!this.server.isClosed()) {
+                try (final Socket socket = this.server.accept(); final OutputStream out = socket.getOutputStream()) {
+                    this.logins.incrementAndGet();
+                    Thread.sleep(200); // handshake
+                    out.write(String.format("Client with IP address '%s' is not allowed to access the server.\n", CLIENT_IP).getBytes(StandardCharsets.UTF_8));
+                } catch (final IOException | InterruptedException ignored) {
+                }
+            }
+        });
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+    }
+
+    @After
+    public void tearDown() throws IOException, InterruptedException {
+        this.server.close();
+        this.acceptor.join(1000);
+    }
+
+    @Test
+    public void concurrentResolutionsAreCollapsed() throws Exception {
+        final PublicIpResolver resolver = new PublicIpResolver(() -> "1.1.1.1", Duration.ofMinutes(5));
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return resolver.resolve(this.probe());
+                }));
+            }
+            start.countDown();
+            for (final Future<String> result : results) {
+                Assert.assertEquals(CLIENT_IP, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(1, this.logins.get());
+        // cached and shared, even with a different probe.
+        Assert.assertEquals(CLIENT_IP, resolver.resolve(() -> "Client with IP address '9.9.9.9' is not allowed"));
+        Assert.assertEquals(1, this.logins.get());
+    }
+
+    @Test
+    public void resolvesAgainAfterExpiration() throws Exception {
+        final PublicIpResolver resolver = new PublicIpResolver(() -> "1.1.1.1", Duration.ofMillis(100));
+        Assert.assertEquals(CLIENT_IP, resolver.resolve(this.probe()));
+        Thread.sleep(200);
+        Assert.assertEquals(CLIENT_IP, resolver.resolve(this.probe()));
+        Assert.assertEquals(2, this.logins.get());
+        resolver.invalidate();
+        Assert.assertEquals(CLIENT_IP, resolver.resolve(this.probe()));
+        Assert.assertEquals(3, this.logins.get());
+    }
+
+    @Test
+    public void fallbackIfProbeFails() {
+        final AtomicInteger fallbacks = new AtomicInteger();
+        final PublicIpResolver resolver = new PublicIpResolver(() -> {
+            fallbacks.incrementAndGet();
+            return " 1.1.1.1\n";
+        }, Duration.ofMinutes(5));
+        Assert.assertEquals("1.1.1.1", resolver.resolve(() -> {
+            throw new IOException("connection refused");
+        }));
+        Assert.assertEquals("1.1.1.1", resolver.resolve(() -> "login failed"));
+        Assert.assertEquals(1, fallbacks.get());
+    }
+
+    @Test
+    public void unresolvedIpIsNotCached() {
+        final AtomicInteger fallbacks = new AtomicInteger();
+        final PublicIpResolver resolver = new PublicIpResolver(() -> {
+            fallbacks.incrementAndGet();
+            return "";
+        }, Duration.ofMinutes(5));
+        Assert.assertEquals("", resolver.resolve(null));
+        Assert.assertEquals("", resolver.resolve(null));
+        Assert.assertEquals(2, fallbacks.get());
+    }
+
+    private Callable<String> probe() {
+        return () -> {
+            try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.server.getLocalPort());
+                 final BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                return in.readLine();
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.common.utils;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TailingDebouncerTest {
+
+    @Test
+    public void runsOnceAfterLastCall() throws InterruptedException {
+        final AtomicInteger count = new AtomicInteger();
+        final TailingDebouncer debouncer = new TailingDebouncer(count::incrementAndGet, 50);
+        for (int i = 0; i < 1000; i++) {
+            debouncer.debounce();
+        }
+        Assert.assertTrue(debouncer.isPending());
+        waitUntilIdle(debouncer);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void reArmingPostponesExecution() throws InterruptedException {
+        final AtomicInteger count = new AtomicInteger();
+        final TailingDebouncer debouncer = new TailingDebouncer(count::incrementAndGet, 100);
+        debouncer.debounce();
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(40);
+            debouncer.debounce();
+            Assert.assertEquals(0, count.get());
+        }
+        waitUntilIdle(debouncer);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void reArmingWithShorterDelayFiresEarlier() throws InterruptedException {
+        final AtomicInteger count = new AtomicInteger();
+        final TailingDebouncer debouncer = new TailingDebouncer(count::incrementAndGet, 2000);
+        debouncer.debounce();
+        final long start = System.nanoTime();
+        debouncer.debounce(0);
+        waitUntilIdle(debouncer);
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertEquals(1, count.get());
+        Assert.assertTrue(String.format("fired after %d ms", elapsed), elapsed < 1000);
+    }
+
+    @Test
+    public void cancelledIsNotExecuted() throws InterruptedException {
+        final AtomicInteger count = new AtomicInteger();
+        final TailingDebouncer debouncer = new TailingDebouncer(count::incrementAndGet, 30);
+        debouncer.debounce();
+        debouncer.cancel();
+        Assert.assertFalse(debouncer.isPending());
+        Thread.sleep(200);
+        Assert.assertEquals(0, count.get());
+        debouncer.debounce();
+        waitUntilIdle(debouncer);
+        Assert.assertEquals(1, count.get());
+    }
+
+    /**
+     * micro benchmark of allocations per {@code debounce()} call, which was about several hundred bytes
+     * (a new rx timer subscription per call) before the debouncer is based on timer wheel.
+     */
+    @Test
+    public void reArmingAllocatesNothing() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        final TailingDebouncer debouncer = new TailingDebouncer(() -> {
+        }, 10_000);
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 100_000; i++) { // warm up
+            debouncer.debounce();
+        }
+        final int calls = 1_000_000;
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            debouncer.debounce();
+        }
+        final double bytesPerCall = (threads.getThreadAllocatedBytes(threadId) - before) / (double) calls;
+        debouncer.cancel();
+        Assert.assertTrue(String.format("%.3f bytes allocated per debounce() call", bytesPerCall), bytesPerCall < 1);
+    }
+
+    private static void waitUntilIdle(TailingDebouncer debouncer) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (debouncer.isPending() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(debouncer.isPending());
+    }
+}
@@ -8,11 +8,13 @@ package com.microsoft.azure.toolkit.lib.compute;
 import com.azure.resourcemanager.compute.ComputeManager;
 import com.azure.resourcemanager.compute.models.AvailabilitySet;
 import com.azure.resourcemanager.compute.models.ComputeResourceType;
+import com.azure.resourcemanager.compute.models.VirtualMachinePublisher;
 import com.azure.resourcemanager.resources.ResourceManager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzServiceSubscription;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.compute.virtualmachine.VirtualMachineModule;
+import com.microsoft.azure.toolkit.lib.compute.virtualmachine.VmCatalog;
 import com.microsoft.azure.toolkit.lib.compute.virtualmachine.VmImagePublisher;
 import com.microsoft.azure.toolkit.lib.compute.virtualmachine.VmSize;
 import lombok.Getter;
@@ -58,15 +60,20 @@ public class ComputeServiceSubscription extends AbstractAzServiceSubscription<Co
     }
 
     public List<VmImagePublisher> listPublishers(final Region region) {
-        return Objects.requireNonNull(this.getRemote()).virtualMachineImages()
-            .publishers().listByRegion(region.getName()).stream().map(VmImagePublisher::new).collect(Collectors.toList());
+        final ComputeManager manager = Objects.requireNonNull(this.getRemote());
+        return VmCatalog.getInstance().get(String.format("publishers/%s", region.getName()), () -> manager.virtualMachineImages()
+                .publishers().listByRegion(region.getName()).stream().map(VirtualMachinePublisher::name).collect(Collectors.toList()))
+            .stream().map(name -> new VmImagePublisher(manager, region, name)).collect(Collectors.toList());
     }
 
     public List<VmSize> listSizes(final Region region) {
-        return Objects.requireNonNull(this.getRemote())
-            .computeSkus()
-            .listByRegionAndResourceType(com.azure.core.management.Region.fromName(region.getName()), ComputeResourceType.VIRTUALMACHINES).stream()
-            .map(VmSize::new).collect(Collectors.toList());
+        // available sizes may vary by subscription (quota/restrictions)
+        final String key = String.format("sizes/%s/%s", this.subscriptionId, region.getName());
+        return VmCatalog.getInstance().get(key, () -> Objects.requireNonNull(this.getRemote())
+                .computeSkus()
+                .listByRegionAndResourceType(com.azure.core.management.Region.fromName(region.getName()), ComputeResourceType.VIRTUALMACHINES).stream()
+                .map(sku -> sku.name().toString()).distinct().collect(Collectors.toList()))
+            .stream().map(VmSize::new).collect(Collectors.toList());
     }
 }
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.compute.virtualmachine;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.TailingDebouncer;
+import com.microsoft.azure.toolkit.lib.common.utils.Utils;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * file based cache of vm catalog (sizes, image publishers/offers/skus/images) per region, so that the catalog
+ * discovery (one ARM call per level of the image tree) is not repeated across processes within the TTL.
+ * keys are like {@code publishers/<region>} or {@code skus/<region>/<publisher>/<offer>}.
+ */
+@Slf4j
+public class VmCatalog {
+    private static final String FILE_NAME = "vm-catalog.json";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int SAVE_DELAY_MILLIS = 1000;
+    private static final TypeReference<HashMap<String, Entry>> TYPE = new TypeReference<HashMap<String, Entry>>() {
+    };
+    private static final VmCatalog instance = new VmCatalog(Utils.getCacheDir().resolve(FILE_NAME));
+
+    @Nonnull
+    private final Path file;
+    @Nullable
+    private Map<String, Entry> entries;
+    private final TailingDebouncer saver = new TailingDebouncer(this::save, SAVE_DELAY_MILLIS);
+
+    VmCatalog(@Nonnull Path file) {
+        this.file = file;
+    }
+
+    public static VmCatalog getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param loader loads values from azure if they are not cached or expired, loaded values are cached only if not empty.
+     */
+    @Nonnull
+    public List<String> get(@Nonnull String key, @Nonnull Supplier<List<String>> loader) {
+        final long now = Instant.now().getEpochSecond();
+        synchronized (this) {
+            final Entry entry = this.getEntries().get(key);
+            if (Objects.nonNull(entry) && Objects.nonNull(entry.getValues()) && entry.getExpiresOn() > now) {
+                return new ArrayList<>(entry.getValues());
+            }
+        }
+        final List<String> values = Optional.ofNullable(loader.get()).orElseGet(ArrayList::new);
+        if (!values.isEmpty()) {
+            synchronized (this) {
+                final Entry entry = new Entry();
+                entry.setExpiresOn(now + TTL.getSeconds());
+                entry.setValues(new ArrayList<>(values));
+                this.getEntries().put(key, entry);
+            }
+            this.saver.debounce();
+        }
+        return values;
+    }
+
+    /**
+     * drop cached entries whose key starts with {@code prefix}, e.g. {@code sizes/} or {@code publishers/eastus}.
+     */
+    public void invalidate(@Nonnull String prefix) {
+        synchronized (this) {
+            this.getEntries().keySet().removeIf(k -> k.startsWith(prefix));
+        }
+        this.saver.debounce();
+    }
+
+    @Nonnull
+    private Map<String, Entry> getEntries() {
+        if (Objects.isNull(this.entries)) {
+            this.entries = this.read();
+            final long now = Instant.now().getEpochSecond();
+            this.entries.values().removeIf(e -> e.getExpiresOn() <= now);
+        }
+        return this.entries;
+    }
+
+    @Nonnull
+    private Map<String, Entry> read() {
+        if (!Files.isRegularFile(this.file)) {
+            return new HashMap<>();
+        }
+        try {
+            final String json = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+            return Optional.ofNullable(JsonUtils.fromJson(json, TYPE)).orElseGet(HashMap::new);
+        } catch (final Exception e) {
+            log.debug("failed to read vm catalog cache from {}.", this.file, e);
+            return new HashMap<>();
+        }
+    }
+
+    private void save() {
+        final String json;
+        synchronized (this) {
+            json = JsonUtils.toJson(this.getEntries());
+        }
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path temp = Files.createTempFile(this.file.getParent(), FILE_NAME, ".tmp");
+            try {
+                Files.write(temp, json.getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            log.debug("failed to write vm catalog cache to {}.", this.file, e);
+        }
+    }
+
+    @Getter
+    @Setter
+    static class Entry {
+        private long expiresOn;
+        @Nullable
+        private List<String> values;
+    }
+}
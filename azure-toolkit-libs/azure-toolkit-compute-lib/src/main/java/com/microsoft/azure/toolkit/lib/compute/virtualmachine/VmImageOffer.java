@@ -5,33 +5,53 @@
 
 package com.microsoft.azure.toolkit.lib.compute.virtualmachine;
 
-import com.azure.resourcemanager.compute.models.VirtualMachineOffer;
+import com.azure.resourcemanager.compute.fluent.models.VirtualMachineImageResourceInner;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class VmImageOffer {
+    static final int FAN_OUT_CONCURRENCY = 8;
+
     @Getter
     private final VmImagePublisher publisher;
-    private final VirtualMachineOffer virtualMachineOffer;
+    @Nonnull
+    private final String name;
 
-    VmImageOffer(@Nonnull VmImagePublisher publisher, @Nonnull VirtualMachineOffer virtualMachineOffer) {
+    VmImageOffer(@Nonnull VmImagePublisher publisher, @Nonnull String name) {
         this.publisher = publisher;
-        this.virtualMachineOffer = virtualMachineOffer;
+        this.name = name;
     }
 
     public String name() {
-        return virtualMachineOffer.name();
+        return this.name;
     }
 
     public Region region() {
-        return Region.fromName(virtualMachineOffer.region().name());
+        return this.publisher.region();
     }
 
     public List<VmImageSku> skus() {
-        return virtualMachineOffer.skus().list().stream().map(sku -> new VmImageSku(this, sku)).collect(Collectors.toList());
+        final String key = String.format("skus/%s/%s/%s", this.region().getName(), this.publisher.name(), this.name);
+        return VmCatalog.getInstance().get(key, () -> this.publisher.getManager().serviceClient().getVirtualMachineImages()
+                .listSkus(this.region().getName(), this.publisher.name(), this.name).stream().map(VirtualMachineImageResourceInner::name).collect(Collectors.toList()))
+            .stream().map(sku -> new VmImageSku(this, sku)).collect(Collectors.toList());
+    }
+
+    /**
+     * images of all skus of this offer, skus are expanded in parallel.
+     */
+    public List<VmImage> images() {
+        return Flux.fromIterable(this.skus())
+            .flatMapSequential(sku -> Mono.fromCallable(sku::images).subscribeOn(Schedulers.boundedElastic()), FAN_OUT_CONCURRENCY)
+            .flatMapIterable(images -> images)
+            .collectList().blockOptional().orElse(Collections.emptyList());
     }
 }
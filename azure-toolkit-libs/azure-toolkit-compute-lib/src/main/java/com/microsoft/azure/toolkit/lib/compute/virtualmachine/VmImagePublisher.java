@@ -5,29 +5,42 @@
 
 package com.microsoft.azure.toolkit.lib.compute.virtualmachine;
 
-import com.azure.resourcemanager.compute.models.VirtualMachinePublisher;
+import com.azure.resourcemanager.compute.ComputeManager;
+import com.azure.resourcemanager.compute.fluent.models.VirtualMachineImageResourceInner;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
+import lombok.Getter;
 
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class VmImagePublisher {
-    private final VirtualMachinePublisher virtualMachinePublisher;
-
-    public VmImagePublisher(@Nonnull VirtualMachinePublisher virtualMachinePublisher) {
-        this.virtualMachinePublisher = virtualMachinePublisher;
+    @Getter
+    @Nonnull
+    private final ComputeManager manager;
+    @Nonnull
+    private final Region region;
+    @Nonnull
+    private final String name;
+
+    public VmImagePublisher(@Nonnull ComputeManager manager, @Nonnull Region region, @Nonnull String name) {
+        this.manager = manager;
+        this.region = region;
+        this.name = name;
     }
 
     public String name() {
-        return virtualMachinePublisher.name();
+        return this.name;
     }
 
     public Region region() {
-        return Region.fromName(virtualMachinePublisher.region().name());
+        return this.region;
     }
 
     public List<VmImageOffer> offers() {
-        return virtualMachinePublisher.offers().list().stream().map(offer -> new VmImageOffer(this, offer)).collect(Collectors.toList());
+        final String key = String.format("offers/%s/%s", this.region.getName(), this.name);
+        return VmCatalog.getInstance().get(key, () -> this.manager.serviceClient().getVirtualMachineImages()
+                .listOffers(this.region.getName(), this.name).stream().map(VirtualMachineImageResourceInner::name).collect(Collectors.toList()))
+            .stream().map(offer -> new VmImageOffer(this, offer)).collect(Collectors.toList());
     }
 }
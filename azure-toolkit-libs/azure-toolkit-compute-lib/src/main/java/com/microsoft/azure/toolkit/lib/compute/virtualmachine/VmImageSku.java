@@ -5,33 +5,67 @@
 
 package com.microsoft.azure.toolkit.lib.compute.virtualmachine;
 
-import com.azure.resourcemanager.compute.models.VirtualMachineSku;
+import com.azure.resourcemanager.compute.fluent.VirtualMachineImagesClient;
+import com.azure.resourcemanager.compute.fluent.models.VirtualMachineImageInner;
+import com.azure.resourcemanager.compute.fluent.models.VirtualMachineImageResourceInner;
+import com.azure.resourcemanager.compute.models.ImageReference;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
+import com.microsoft.azure.toolkit.lib.compute.virtualmachine.model.OperatingSystem;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class VmImageSku {
     @Getter
     private final VmImageOffer publisher;
-    private final VirtualMachineSku virtualMachineSku;
+    @Nonnull
+    private final String name;
 
-    VmImageSku(@Nonnull VmImageOffer imageOffer, @Nonnull VirtualMachineSku virtualMachineSku) {
+    VmImageSku(@Nonnull VmImageOffer imageOffer, @Nonnull String name) {
         this.publisher = imageOffer;
-        this.virtualMachineSku = virtualMachineSku;
+        this.name = name;
     }
 
     public String name() {
-        return virtualMachineSku.name();
+        return this.name;
     }
 
     public Region region() {
-        return Region.fromName(virtualMachineSku.region().name());
+        return this.publisher.region();
     }
 
     public List<VmImage> images() {
-        return virtualMachineSku.images().list().stream().map(VmImage::new).collect(Collectors.toList());
+        final VmImageOffer offer = this.publisher;
+        final String region = this.region().getName();
+        final String publisherName = offer.getPublisher().name();
+        final String key = String.format("images/%s/%s/%s/%s", region, publisherName, offer.name(), this.name);
+        // values are `<os>:<version>`
+        return VmCatalog.getInstance().get(key, () -> this.loadImages(region, publisherName, offer.name())).stream()
+            .map(value -> {
+                final ImageReference reference = new ImageReference().withPublisher(publisherName).withOffer(offer.name())
+                    .withSku(this.name).withVersion(StringUtils.substringAfter(value, ":"));
+                return new VmImage(OperatingSystem.fromString(StringUtils.substringBefore(value, ":")), reference);
+            }).collect(Collectors.toList());
+    }
+
+    @Nonnull
+    private List<String> loadImages(@Nonnull String region, @Nonnull String publisherName, @Nonnull String offer) {
+        final VirtualMachineImagesClient client = this.publisher.getPublisher().getManager().serviceClient().getVirtualMachineImages();
+        final List<String> versions = client.list(region, publisherName, offer, this.name).stream()
+            .map(VirtualMachineImageResourceInner::name).collect(Collectors.toList());
+        // os type is only available in details of every version.
+        return Flux.fromIterable(versions)
+            .flatMapSequential(version -> Mono.fromCallable(() -> {
+                final VirtualMachineImageInner image = client.get(region, publisherName, offer, this.name, version);
+                return String.format("%s:%s", image.osDiskImage().operatingSystem(), version);
+            }).subscribeOn(Schedulers.boundedElastic()), VmImageOffer.FAN_OUT_CONCURRENCY)
+            .collectList().blockOptional().orElse(Collections.emptyList());
     }
 }
@@ -74,8 +74,11 @@ public class ContainerApp extends AbstractAzResource<ContainerApp, AzureContaine
     @Override
     protected void updateAdditionalProperties(@Nullable com.azure.resourcemanager.appcontainers.models.ContainerApp newRemote, @Nullable com.azure.resourcemanager.appcontainers.models.ContainerApp oldRemote) {
         super.updateAdditionalProperties(newRemote, oldRemote);
+        // get the latest revision directly by name rather than listing all (maybe hundreds of) revisions.
         this.latestRevision = Optional.ofNullable(newRemote)
-                .flatMap(c -> revisionModule.list().stream().filter(r -> Objects.equals(r.getName(), c.latestRevisionName())).findFirst())
+                .map(com.azure.resourcemanager.appcontainers.models.ContainerApp::latestRevisionName)
+                .filter(StringUtils::isNotBlank)
+                .map(name -> revisionModule.get(name, this.getResourceGroupName()))
                 .orElse(null);
     }
 
@@ -5,14 +5,22 @@
 
 package com.microsoft.azure.toolkit.lib.containerservice;
 
+import com.azure.resourcemanager.containerservice.ContainerServiceManager;
+import com.azure.resourcemanager.containerservice.fluent.ManagedClustersClient;
+import com.azure.resourcemanager.containerservice.fluent.models.CredentialResultsInner;
+import com.azure.resourcemanager.containerservice.models.CredentialResult;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.microsoft.azure.toolkit.lib.common.action.Action;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.model.Startable;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.containerservice.model.ContainerServiceNetworkProfile;
 import com.microsoft.azure.toolkit.lib.containerservice.model.PowerState;
 import org.apache.commons.lang3.StringUtils;
@@ -23,27 +31,39 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class KubernetesCluster extends AbstractAzResource<KubernetesCluster, ContainerServiceSubscription,
         com.azure.resourcemanager.containerservice.models.KubernetesCluster> implements Startable, Deletable {
     public static final Action.Id<KubernetesCluster> DOWNLOAD_CONFIG_ADMIN = Action.Id.of("user/kubernetes.kubu_config_admin.kubernetes");
     public static final Action.Id<KubernetesCluster> DOWNLOAD_CONFIG_USER = Action.Id.of("user/kubernetes.kubu_config_user.kubernetes");
 
+    private static final String ADMIN = "admin";
+    private static final String USER = "user";
+    private static final int KUBE_CONFIG_TTL_MINUTES = 10;
+
     private final KubernetesClusterAgentPoolModule agentPoolModule;
+    /**
+     * kubeconfigs are fetched only on demand (not as part of refreshing the cluster) and are shared by all copies.
+     */
+    private final Cache<String, byte[]> kubeConfigs;
 
     protected KubernetesCluster(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull KubernetesClusterModule module) {
         super(name, resourceGroupName, module);
         this.agentPoolModule = new KubernetesClusterAgentPoolModule(this);
+        this.kubeConfigs = Caffeine.newBuilder().expireAfterWrite(KUBE_CONFIG_TTL_MINUTES, TimeUnit.MINUTES).build();
     }
 
     protected KubernetesCluster(@Nonnull KubernetesCluster cluster) {
         super(cluster);
         this.agentPoolModule = new KubernetesClusterAgentPoolModule(this);
+        this.kubeConfigs = cluster.kubeConfigs;
     }
 
     protected KubernetesCluster(@Nonnull com.azure.resourcemanager.containerservice.models.KubernetesCluster remote, @Nonnull KubernetesClusterModule module) {
         super(remote.name(), ResourceId.fromString(remote.id()).resourceGroupName(), module);
         this.agentPoolModule = new KubernetesClusterAgentPoolModule(this);
+        this.kubeConfigs = Caffeine.newBuilder().expireAfterWrite(KUBE_CONFIG_TTL_MINUTES, TimeUnit.MINUTES).build();
     }
 
     public ContainerServiceNetworkProfile getContainerServiceNetworkProfile() {
@@ -98,12 +118,41 @@ public class KubernetesCluster extends AbstractAzResource<KubernetesCluster, Con
 
     @Nonnull
     public byte[] getAdminKubeConfig() {
-        return Objects.requireNonNull(this.getRemote()).adminKubeConfigContent();
+        return Objects.requireNonNull(this.kubeConfigs.get(ADMIN, this::loadKubeConfig));
     }
 
     @Nonnull
     public byte[] getUserKubeConfig() {
-        return Objects.requireNonNull(this.getRemote()).userKubeConfigContent();
+        return Objects.requireNonNull(this.kubeConfigs.get(USER, this::loadKubeConfig));
+    }
+
+    /**
+     * drop cached kubeconfigs, e.g. after cluster credentials are rotated.
+     */
+    public void invalidateKubeConfigs() {
+        this.kubeConfigs.invalidateAll();
+    }
+
+    @Nonnull
+    @AzureOperation(name = "azure/kubernetes.load_kube_config.cluster", params = {"this.getName()"})
+    private byte[] loadKubeConfig(@Nonnull String type) {
+        final ContainerServiceManager manager = Objects.requireNonNull(this.getParent().getRemote());
+        final ManagedClustersClient client = manager.serviceClient().getManagedClusters();
+        final CredentialResultsInner credentials = StringUtils.equals(type, ADMIN) ?
+                client.listClusterAdminCredentials(this.getResourceGroupName(), this.getName()) :
+                client.listClusterUserCredentials(this.getResourceGroupName(), this.getName());
+        return Optional.ofNullable(credentials.kubeconfigs()).flatMap(configs -> configs.stream().findFirst())
+                .map(CredentialResult::value)
+                .orElseThrow(() -> new AzureToolkitRuntimeException(String.format("no %s kubeconfig is found for cluster (%s).", type, this.getName())));
+    }
+
+    @Override
+    protected void updateAdditionalProperties(@Nullable com.azure.resourcemanager.containerservice.models.KubernetesCluster newRemote,
+                                              @Nullable com.azure.resourcemanager.containerservice.models.KubernetesCluster oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.isNull(newRemote)) {
+            this.invalidateKubeConfigs();
+        }
     }
 
     @Override
@@ -71,7 +71,7 @@ public class MongoCollection extends AbstractAzResource<MongoCollection, MongoDa
         if (document.get(MONGO_ID_KEY) == null) {
             document.put(MONGO_ID_KEY, new ObjectId());
         }
-        final String id = document.get(MONGO_ID_KEY).toString();
+        final String id = MongoDocumentModule.getDocumentName(document.get(MONGO_ID_KEY));
         final String sharedKey = this.getSharedKey();
         if (StringUtils.isNotEmpty(sharedKey) && !IteratorUtils.contains(node.fieldNames(), sharedKey)) {
             throw new AzureToolkitRuntimeException(String.format("Document does not contain shard key at '%s'", sharedKey));
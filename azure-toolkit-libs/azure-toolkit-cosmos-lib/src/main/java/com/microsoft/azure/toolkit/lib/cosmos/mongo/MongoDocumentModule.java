@@ -12,8 +12,11 @@ import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 
 import javax.annotation.Nonnull;
@@ -29,6 +32,7 @@ import java.util.stream.Stream;
 public class MongoDocumentModule extends AbstractAzResourceModule<MongoDocument, MongoCollection, Document> {
 
     public static final String MONGO_ID_KEY = "_id";
+    private static final JsonWriterSettings TYPED_JSON = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
 
     public MongoDocumentModule(@Nonnull MongoCollection parent) {
         super("documents", parent);
@@ -37,8 +41,8 @@ public class MongoDocumentModule extends AbstractAzResourceModule<MongoDocument,
     @Nonnull
     @Override
     protected MongoDocument newResource(@Nonnull Document document) {
-        final String id = Objects.requireNonNull(document.get(MONGO_ID_KEY)).toString();
-        return new MongoDocument(id, parent.getResourceGroupName(), this);
+        final String name = getDocumentName(Objects.requireNonNull(document.get(MONGO_ID_KEY)));
+        return new MongoDocument(name, parent.getResourceGroupName(), this);
     }
 
     @Nonnull
@@ -85,9 +89,11 @@ public class MongoDocumentModule extends AbstractAzResourceModule<MongoDocument,
     @Nullable
     @Override
     protected Document loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
-        final Object documentId = getDocumentIdFromName(name);
-        return Optional.ofNullable(getClient())
-            .map(client -> client.find(new Document(MONGO_ID_KEY, documentId)).first()).orElse(null);
+        final com.mongodb.client.MongoCollection<Document> client = getClient();
+        if (Objects.isNull(client)) {
+            return null;
+        }
+        return client.find(Filters.eq(MONGO_ID_KEY, getDocumentId(name))).first();
     }
 
     @Nonnull
@@ -105,16 +111,41 @@ public class MongoDocumentModule extends AbstractAzResourceModule<MongoDocument,
     @Override
     protected void deleteResourceFromAzure(@Nonnull String resourceId) {
         final ResourceId id = ResourceId.fromString(resourceId);
-        final Object documentId = getDocumentIdFromName(id.name());
-        Optional.ofNullable(getClient()).ifPresent(client -> client.deleteOne(new Document(MONGO_ID_KEY, documentId)));
+        final Object documentId = getDocumentId(id.name());
+        Optional.ofNullable(getClient()).ifPresent(client -> client.deleteOne(Filters.eq(MONGO_ID_KEY, documentId)));
+    }
+
+    /**
+     * resource name of the document with the given {@code _id}: the hex string of an {@link ObjectId}, the id itself
+     * for other string ids, and canonical extended json of {@code {"_id": ...}} for the rest (e.g. numbers, uuids),
+     * which keeps the BSON type of the id so that it can be resolved by an exact match on {@code _id}, see
+     * {@link #getDocumentId(String)}. string ids that would be read as the other forms are also written as json.
+     */
+    @Nonnull
+    public static String getDocumentName(@Nonnull final Object documentId) {
+        if (documentId instanceof ObjectId) {
+            return ((ObjectId) documentId).toHexString();
+        }
+        if (documentId instanceof String && !ObjectId.isValid((String) documentId) && !StringUtils.startsWith((String) documentId, "{")) {
+            return (String) documentId;
+        }
+        return new Document(MONGO_ID_KEY, documentId).toJson(TYPED_JSON);
     }
 
-    private Object getDocumentIdFromName(final String name) {
-        return this.list().stream()
-            .filter(document -> document.getDocumentId() != null && StringUtils.equals(name, document.getDocumentId().toString()))
-            .findFirst()
-            .map(MongoDocument::getDocumentId)
-            .orElseGet(() -> new ObjectId(name));
+    /**
+     * typed {@code _id} of the document with the given resource name, see {@link #getDocumentName(Object)}.
+     */
+    @Nonnull
+    public static Object getDocumentId(@Nonnull final String name) {
+        if (StringUtils.startsWith(name, "{")) {
+            try {
+                return Objects.requireNonNull(Document.parse(name).get(MONGO_ID_KEY));
+            } catch (final RuntimeException e) {
+                // not a name in form of json, take it as a string id.
+                return name;
+            }
+        }
+        return ObjectId.isValid(name) ? new ObjectId(name) : name;
     }
 
     @Nullable
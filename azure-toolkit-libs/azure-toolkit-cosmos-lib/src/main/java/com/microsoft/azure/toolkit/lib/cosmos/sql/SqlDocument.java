@@ -7,6 +7,7 @@ package com.microsoft.azure.toolkit.lib.cosmos.sql;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
@@ -52,16 +53,41 @@ public class SqlDocument extends AbstractAzResource<SqlDocument, SqlContainer, O
         sqlDocumentDraft.updateIfExist();
     }
 
+    /**
+     * document loaded by listing is only a {@link SqlDocumentModule#getSummaryQuery() summary}, the full document is
+     * loaded (blocking) on first access, so that it's never edited and written back partially.
+     */
     @Override
     @Nullable
     public ObjectNode getDocument() {
-        return Optional.ofNullable(getRemote()).map(remote -> {
-            final ObjectNode node = remote.deepCopy();
-            for (final String field : HIDE_FIELDS) {
-                node.remove(field);
+        final ObjectNode remote = this.getRemote();
+        if (Objects.nonNull(remote) && SqlDocumentModule.isSummary(remote)) {
+            this.setRemote(((SqlDocumentModule) this.getModule()).loadResourceFromAzure(this.getName(), this.getResourceGroupName()));
+        }
+        return Optional.ofNullable(this.getRemote()).map(SqlDocument::hideFields).orElse(null);
+    }
+
+    /**
+     * label fields are part of the summary, no need to load the full document.
+     */
+    @Override
+    public String getDocumentDisplayName() {
+        final ObjectNode remote = this.getRemote();
+        for (final String label : Azure.az().config().getDocumentsLabelFields()) {
+            if (remote != null && remote.has(label)) {
+                return remote.get(label).asText();
             }
-            return node;
-        }).orElse(null);
+        }
+        return Optional.ofNullable(getDocumentId()).orElse("Unknown");
+    }
+
+    @Nonnull
+    protected static ObjectNode hideFields(@Nonnull ObjectNode remote) {
+        final ObjectNode node = remote.deepCopy();
+        for (final String field : HIDE_FIELDS) {
+            node.remove(field);
+        }
+        return node;
     }
 
     @Nonnull
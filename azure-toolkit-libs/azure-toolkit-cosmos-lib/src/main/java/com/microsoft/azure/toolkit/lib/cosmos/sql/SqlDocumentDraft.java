@@ -87,9 +87,11 @@ public class SqlDocumentDraft extends SqlDocument implements
     @Override
     @AzureOperation(name = "azure/cosmos.update_sql_document.document", params = {"this.getName()"})
     public ObjectNode updateResourceInAzure(@Nonnull ObjectNode origin) {
-        final ObjectNode document = getDocument();
-        final ObjectNode originDocument = Objects.requireNonNull(super.getDocument());
-        if (Objects.isNull(document) || Objects.equals(document, originDocument)) {
+        final ObjectNode fullOrigin = SqlDocumentModule.isSummary(origin) ?
+            Objects.requireNonNull(((SqlDocumentModule) getModule()).loadResourceFromAzure(getName(), getResourceGroupName())) : origin;
+        final ObjectNode originDocument = hideFields(fullOrigin);
+        final ObjectNode document = Optional.ofNullable(draftDocument).orElse(originDocument);
+        if (Objects.equals(document, originDocument)) {
             return originDocument;
         }
         if (!Objects.equals(document.get(ID), originDocument.get(ID))) {
@@ -105,7 +107,7 @@ public class SqlDocumentDraft extends SqlDocument implements
         final PartitionKey key = Objects.isNull(newPartitionValue) ? PartitionKey.NONE : new PartitionKey(newPartitionValue);
         final ObjectNode node = draftDocument.deepCopy();
         for (String field : HIDE_FIELDS) {
-            node.set(field, origin.get(field));
+            node.set(field, fullOrigin.get(field));
         }
         Objects.requireNonNull(client).replaceItem(node, getDocumentId(), key, new CosmosPatchItemRequestOptions()).getItem();
         return Objects.requireNonNull(client).readItem(node.get(ID).asText(), key, ObjectNode.class).getItem();
@@ -9,10 +9,12 @@ import com.azure.core.util.paging.ContinuablePage;
 import com.azure.cosmos.CosmosContainer;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
+import com.azure.cosmos.models.FeedResponse;
 import com.azure.cosmos.models.PartitionKey;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
@@ -25,13 +27,18 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class SqlDocumentModule extends AbstractAzResourceModule<SqlDocument, SqlContainer, ObjectNode> {
 
     public static final String DELIMITER = "#";
     public static final String ID = "id";
+    public static final String TIMESTAMP = "_ts";
+    private static final String ETAG = "_etag";
     public static final String NONE = "$$$none$$$";
 
     public SqlDocumentModule(@Nonnull SqlContainer parent) {
@@ -45,10 +52,53 @@ public class SqlDocumentModule extends AbstractAzResourceModule<SqlDocument, Sql
         if (client == null) {
             return Collections.emptyIterator();
         }
-        return client.queryItems("select * from c", new CosmosQueryRequestOptions(), ObjectNode.class)
+        return client.queryItems(getSummaryQuery(), new CosmosQueryRequestOptions(), ObjectNode.class)
             .iterableByPage(getPageSize()).iterator();
     }
 
+    /**
+     * load one page of document summaries (see {@link #getSummaryQuery()}) starting from {@code continuationToken},
+     * the continuation token of the next page is available through {@link FeedResponse#getContinuationToken()}.
+     */
+    @Nullable
+    public FeedResponse<ObjectNode> loadDocumentSummaries(@Nullable String continuationToken, int pageSize) {
+        final CosmosContainer client = getClient();
+        if (client == null) {
+            return null;
+        }
+        final Iterator<FeedResponse<ObjectNode>> pages = client.queryItems(getSummaryQuery(), new CosmosQueryRequestOptions(), ObjectNode.class)
+            .iterableByPage(continuationToken, pageSize).iterator();
+        return pages.hasNext() ? pages.next() : null;
+    }
+
+    /**
+     * query projecting only {@code id}, {@code _ts}, the (top level property of) partition key and the configured label fields,
+     * which is all needed to identify and display a document. full documents are loaded on demand, see {@link SqlDocument#getDocument()}.
+     */
+    @Nonnull
+    public String getSummaryQuery() {
+        final Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        fields.add(TIMESTAMP);
+        Optional.ofNullable(getParent().getPartitionKey())
+            .map(path -> StringUtils.substringBefore(StringUtils.removeStart(path, "/"), "/"))
+            .filter(StringUtils::isNotBlank)
+            .ifPresent(fields::add);
+        fields.addAll(Azure.az().config().getDocumentsLabelFields());
+        final String projection = fields.stream()
+            .map(f -> StringUtils.replaceEach(f, new String[]{"\\", "\""}, new String[]{"\\\\", "\\\""}))
+            .map(f -> String.format("\"%1$s\": c[\"%1$s\"]", f))
+            .collect(Collectors.joining(", "));
+        return String.format("SELECT VALUE {%s} FROM c", projection);
+    }
+
+    /**
+     * documents returned by {@link #getSummaryQuery()} carry no system properties other than {@code _ts}.
+     */
+    public static boolean isSummary(@Nonnull ObjectNode node) {
+        return !node.has(ETAG);
+    }
+
     @Nullable
     @Override
     @SneakyThrows(UnsupportedEncodingException.class)
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.cosmos.mongo;
+
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+public class MongoDocumentModuleTest {
+
+    @Test
+    public void commonIdsAreNamedAsIs() {
+        final ObjectId objectId = new ObjectId();
+        Assert.assertEquals(objectId.toHexString(), MongoDocumentModule.getDocumentName(objectId));
+        Assert.assertEquals("alice", MongoDocumentModule.getDocumentName("alice"));
+    }
+
+    @Test
+    public void idsAreResolvedWithTheirType() {
+        final List<Object> ids = Arrays.asList(new ObjectId(), "alice", "123", new ObjectId().toHexString(), "{\"_id\": 1}",
+            1, 1L, 1.5, new Decimal128(new BigDecimal("1.50")));
+        for (final Object id : ids) {
+            final Object resolved = MongoDocumentModule.getDocumentId(MongoDocumentModule.getDocumentName(id));
+            Assert.assertEquals(String.valueOf(id), id, resolved);
+            Assert.assertEquals(String.valueOf(id), id.getClass(), resolved.getClass());
+        }
+    }
+
+    @Test
+    public void idsOfDifferentTypesHaveDifferentNames() {
+        final List<Object> ids = Arrays.asList("1", 1, 1L, 1.0);
+        final HashSet<String> names = new HashSet<>();
+        ids.forEach(id -> names.add(MongoDocumentModule.getDocumentName(id)));
+        Assert.assertEquals(ids.size(), names.size());
+    }
+}
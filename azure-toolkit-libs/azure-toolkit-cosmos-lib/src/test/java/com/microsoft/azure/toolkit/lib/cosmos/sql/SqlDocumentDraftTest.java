@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.cosmos.sql;
+
+import com.azure.cosmos.CosmosContainer;
+import com.azure.cosmos.models.CosmosItemRequestOptions;
+import com.azure.cosmos.models.CosmosItemResponse;
+import com.azure.cosmos.models.PartitionKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SqlDocumentDraftTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CosmosContainer client;
+    private SqlDocument origin;
+    private ObjectNode full;
+    private ObjectNode summary;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        this.client = mock(CosmosContainer.class);
+        final SqlContainer container = mock(SqlContainer.class);
+        when(container.getClient()).thenReturn(client);
+        when(container.getPartitionKey()).thenReturn("/pk");
+        this.origin = new SqlDocument("1#a", "rg", new SqlDocumentModule(container));
+
+        this.full = MAPPER.createObjectNode().put("id", "1").put("pk", "a").put("name", "origin").put("extra", "kept")
+            .put("_rid", "rid").put("_self", "self").put("_etag", "etag").put("_attachments", "attachments").put("_ts", 1);
+        this.summary = MAPPER.createObjectNode().put("id", "1").put("pk", "a").put("_ts", 1);
+        final CosmosItemResponse<ObjectNode> read = mock(CosmosItemResponse.class);
+        when(read.getItem()).thenReturn(full);
+        when(client.readItem(eq("1"), any(PartitionKey.class), eq(ObjectNode.class))).thenReturn(read);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void updatingSummaryWritesFullDocument() {
+        final SqlDocumentDraft draft = new SqlDocumentDraft(origin);
+        draft.setDraftDocument(SqlDocument.hideFields(full).put("name", "changed"));
+
+        draft.updateResourceInAzure(summary);
+
+        final ArgumentCaptor<ObjectNode> written = ArgumentCaptor.forClass(ObjectNode.class);
+        verify(client).replaceItem(written.capture(), eq("1"), any(PartitionKey.class), any(CosmosItemRequestOptions.class));
+        Assert.assertEquals("changed", written.getValue().get("name").asText());
+        Assert.assertEquals("kept", written.getValue().get("extra").asText());
+        Assert.assertEquals("etag", written.getValue().get("_etag").asText());
+    }
+
+    @Test
+    public void unmodifiedDocumentIsNotWritten() {
+        final SqlDocumentDraft draft = new SqlDocumentDraft(origin);
+
+        final ObjectNode result = draft.updateResourceInAzure(summary);
+
+        Assert.assertEquals(SqlDocument.hideFields(full), result);
+        verify(client, never()).replaceItem(any(), anyString(), any(PartitionKey.class), any(CosmosItemRequestOptions.class));
+    }
+
+    @Test(expected = AzureToolkitRuntimeException.class)
+    public void changingIdIsRejected() {
+        final SqlDocumentDraft draft = new SqlDocumentDraft(origin);
+        draft.setDraftDocument(SqlDocument.hideFields(full).put("id", "2"));
+
+        draft.updateResourceInAzure(summary);
+    }
+}
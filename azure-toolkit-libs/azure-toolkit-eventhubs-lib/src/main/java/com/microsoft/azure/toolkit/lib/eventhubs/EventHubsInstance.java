@@ -4,6 +4,8 @@
  */
 package com.microsoft.azure.toolkit.lib.eventhubs;
 
+import com.azure.core.amqp.exception.AmqpErrorCondition;
+import com.azure.core.amqp.exception.AmqpException;
 import com.azure.messaging.eventhubs.*;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.resourcemanager.eventhubs.EventHubsManager;
@@ -16,6 +18,7 @@ import com.azure.resourcemanager.eventhubs.models.EventHubAuthorizationRule;
 import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.AzureConfiguration;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.cache.ConnectionStringCache;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
@@ -26,6 +29,7 @@ import com.microsoft.azure.toolkit.lib.common.utils.Utils;
 import com.microsoft.azure.toolkit.lib.resource.message.ISenderReceiver;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import reactor.core.Disposable;
 
 import javax.annotation.Nonnull;
@@ -42,6 +46,7 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
     private final List<Disposable> receivers = new ArrayList<>();
     @Nullable
     private IAzureMessager messager;
+    private final ConnectionStringCache<AccessRights> connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
     protected EventHubsInstance(@Nonnull String name, @Nonnull EventHubsInstanceModule module) {
         super(name, module);
     }
@@ -54,6 +59,15 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
     protected void updateAdditionalProperties(@Nullable EventHub newRemote, @Nullable EventHub oldRemote) {
         super.updateAdditionalProperties(newRemote, oldRemote);
         this.entityStatus = Optional.ofNullable(newRemote).map(EventHub::innerModel).map(EventhubInner::status).orElse(null);
+        if (Objects.isNull(newRemote)) {
+            this.connectionStrings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        super.invalidateCache();
+        this.connectionStrings.invalidateAll();
     }
 
     @Nonnull
@@ -95,6 +109,9 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
                             .subscribe(partitionEvent -> {
                                 messager.info(AzureString.format("Message Received from partition (%s): ", partitionId));
                                 messager.debug(AzureString.format("\"%s\"\n", partitionEvent.getData().getBodyAsString()));
+                            }, error -> {
+                                this.invalidateConnectionStringsIfUnauthorized(error);
+                                messager.error(AzureString.format("Failed to receive messages from partition (%s): %s\n", partitionId, error));
                             })));
         }));
     }
@@ -143,6 +160,7 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
                 messager.info(AzureString.format(" to Event Hub (%s)\n", getName()));
             }
         } catch (final Exception e) {
+            this.invalidateConnectionStringsIfUnauthorized(e);
             messager.error(AzureString.format("Failed to send message to Event Hub (%s): %s", getName(), e));
         }
     }
@@ -152,13 +170,32 @@ public class EventHubsInstance extends AbstractAzResource<EventHubsInstance, Eve
     }
 
     private String getOrCreateConnectionString(List<AccessRights> accessRights) {
-        final List<EventHubAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
+        return this.connectionStrings.get(accessRights);
+    }
+
+    /**
+     * drop cached connection strings, e.g. after keys of the authorization rules are rotated.
+     */
+    public void invalidateConnectionStrings() {
+        this.connectionStrings.invalidateAll();
+    }
+
+    private void invalidateConnectionStringsIfUnauthorized(@Nonnull Throwable error) {
+        final boolean unauthorized = ExceptionUtils.getThrowableList(error).stream()
+                .anyMatch(t -> t instanceof AmqpException && ((AmqpException) t).getErrorCondition() == AmqpErrorCondition.UNAUTHORIZED_ACCESS);
+        if (unauthorized) {
+            this.invalidateConnectionStrings();
+        }
+    }
+
+    private String loadConnectionString(List<AccessRights> accessRights) {
+        final List<EventHubAuthorizationRule> rules = Optional.ofNullable(getRemote())
                 .map(eventHubInstance -> eventHubInstance.listAuthorizationRules().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
                         .collect(Collectors.toList()))
                 .orElse(new ArrayList<>());
-        if (connectionStrings.size() > 0) {
-            return connectionStrings.get(0).getKeys().primaryConnectionString();
+        if (rules.size() > 0) {
+            return rules.get(0).getKeys().primaryConnectionString();
         }
         final EventHubsManager manager = getParent().getParent().getRemote();
         if (Objects.isNull(manager)) {
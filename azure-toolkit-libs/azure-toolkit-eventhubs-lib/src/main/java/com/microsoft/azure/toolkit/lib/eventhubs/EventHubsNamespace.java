@@ -10,6 +10,7 @@ import com.azure.resourcemanager.eventhubs.models.EventHubNamespace;
 import com.azure.resourcemanager.eventhubs.models.EventHubNamespaceAuthorizationRule;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.cache.ConnectionStringCache;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
@@ -18,25 +19,45 @@ import com.microsoft.azure.toolkit.lib.common.utils.Utils;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
 public class EventHubsNamespace extends AbstractAzResource<EventHubsNamespace, EventHubsNamespaceSubscription, EventHubNamespace> implements Deletable {
     @Nonnull
     private final EventHubsInstanceModule instanceModule;
+    @Nonnull
+    private final ConnectionStringCache<AccessRights> connectionStrings;
     protected EventHubsNamespace(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull EventHubsNamespaceModule module) {
         super(name, resourceGroupName, module);
         this.instanceModule = new EventHubsInstanceModule(this);
+        this.connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
     }
     
     protected EventHubsNamespace(@Nonnull EventHubsNamespace origin) {
         super(origin);
         this.instanceModule = origin.instanceModule;
+        this.connectionStrings = origin.connectionStrings;
     }
 
     protected EventHubsNamespace(@Nonnull EventHubNamespace remote, @Nonnull EventHubsNamespaceModule module) {
         super(remote.name(), ResourceId.fromString(remote.id()).resourceGroupName(), module);
         this.instanceModule = new EventHubsInstanceModule(this);
+        this.connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
+    }
+
+    @Override
+    protected void updateAdditionalProperties(@Nullable EventHubNamespace newRemote, @Nullable EventHubNamespace oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.isNull(newRemote)) {
+            this.connectionStrings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        super.invalidateCache();
+        this.connectionStrings.invalidateAll();
     }
 
     @Nonnull
@@ -57,13 +78,24 @@ public class EventHubsNamespace extends AbstractAzResource<EventHubsNamespace, E
 
     public String getOrCreateListenConnectionString() {
         final List<AccessRights> accessRights = Collections.singletonList(AccessRights.LISTEN);
-        final List<EventHubNamespaceAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
+        return this.connectionStrings.get(accessRights);
+    }
+
+    /**
+     * drop cached connection strings, e.g. after keys of the authorization rules are rotated.
+     */
+    public void invalidateConnectionStrings() {
+        this.connectionStrings.invalidateAll();
+    }
+
+    private String loadConnectionString(List<AccessRights> accessRights) {
+        final List<EventHubNamespaceAuthorizationRule> rules = Optional.ofNullable(getRemote())
                 .map(eventHubInstance -> eventHubInstance.listAuthorizationRules().stream()
                         .filter(rule -> Objects.equals(rule.rights(), accessRights))
                         .collect(Collectors.toList()))
                 .orElse(new ArrayList<>());
-        if (connectionStrings.size() > 0) {
-            return connectionStrings.get(0).getKeys().primaryConnectionString();
+        if (rules.size() > 0) {
+            return rules.get(0).getKeys().primaryConnectionString();
         }
         if (!this.exists()) {
             throw new AzureToolkitRuntimeException(AzureString.format("resource ({0}) not found", getName()).toString());
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * generates the classpath indexes read by {@code ClasspathIndex} of azure-toolkit-common-lib at build time:
+ * <ul>
+ *     <li>{@value #PRELOAD_INDEX}: {@code @Preload} annotated methods in form of {@code ClassName#methodName}</li>
+ *     <li>{@value #SCHEMA_INDEX}: {@code schema/**.json} resources of the module</li>
+ * </ul>
+ * both indexes are always generated (empty if nothing is found), so that the runtime never falls back to scanning
+ * jars of toolkit modules. it's registered through {@code META-INF/services} and discovered by javac when this
+ * artifact is on the compile classpath.
+ */
+@SupportedAnnotationTypes("*")
+public class ClasspathIndexProcessor extends AbstractProcessor {
+    static final String PRELOAD_INDEX = "META-INF/azure-toolkit/preload.idx";
+    static final String SCHEMA_INDEX = "META-INF/azure-toolkit/schema.idx";
+    static final String PRELOAD = "com.microsoft.azure.toolkit.lib.common.cache.Preload";
+    private static final String SCHEMA_DIR = "schema";
+
+    private final Set<String> preloads = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        if (env.processingOver()) {
+            try {
+                final FileObject preloadIndex = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PRELOAD_INDEX);
+                write(preloadIndex, "@Preload annotated methods of this module (ClassName#methodName)", preloads);
+                final FileObject schemaIndex = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SCHEMA_INDEX);
+                write(schemaIndex, "schema resources of this module", getSchemas(schemaIndex.toUri()));
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write classpath indexes: " + e.getMessage());
+            }
+            return false;
+        }
+        final TypeElement preload = processingEnv.getElementUtils().getTypeElement(PRELOAD);
+        if (preload != null) {
+            for (final Element method : env.getElementsAnnotatedWith(preload)) {
+                if (method.getKind() == ElementKind.METHOD) {
+                    final TypeElement clazz = (TypeElement) method.getEnclosingElement();
+                    preloads.add(processingEnv.getElementUtils().getBinaryName(clazz) + "#" + method.getSimpleName());
+                }
+            }
+        }
+        return false; // never claims the annotations, other processors (e.g. lombok) still see them.
+    }
+
+    /**
+     * resources are copied to the class output before compiling, so schemas are looked up there.
+     *
+     * @param index uri of the schema index in the class output
+     */
+    private Set<String> getSchemas(URI index) {
+        final Set<String> schemas = new TreeSet<>();
+        if (!"file".equals(index.getScheme())) {
+            return schemas;
+        }
+        // `META-INF/azure-toolkit/schema.idx` is 3 levels below the root of the class output.
+        final Path root = Paths.get(index).getParent().getParent().getParent();
+        final Path dir = root.resolve(SCHEMA_DIR);
+        if (!Files.isDirectory(dir)) {
+            return schemas;
+        }
+        try (final Stream<Path> files = Files.walk(dir)) {
+            schemas.addAll(files.filter(f -> Files.isRegularFile(f) && f.getFileName().toString().endsWith(".json"))
+                .map(f -> root.relativize(f).toString().replace('\\', '/'))
+                .collect(Collectors.toList()));
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "failed to list schema resources: " + e.getMessage());
+        }
+        return schemas;
+    }
+
+    private void write(FileObject index, String description, Set<String> entries) throws IOException {
+        try (final Writer writer = index.openWriter()) {
+            writer.write("# " + description + ", generated by " + getClass().getSimpleName() + ".\n");
+            for (final String entry : entries) {
+                writer.write(entry + "\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.processor;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ClasspathIndexProcessorTest {
+    private static final String PRELOAD = "package com.microsoft.azure.toolkit.lib.common.cache;\n" +
+        "public @interface Preload {}\n";
+    private static final String SERVICE = "package com.example;\n" +
+        "import com.microsoft.azure.toolkit.lib.common.cache.Preload;\n" +
+        "public class Service {\n" +
+        "    @Preload public static void warmUp() {}\n" +
+        "    public static void notPreloaded() {}\n" +
+        "    public static class Inner { @Preload public void load(boolean... force) {} }\n" +
+        "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void preloadMethodsAndSchemasAreIndexed() throws IOException {
+        final File output = folder.newFolder("classes");
+        final File schemas = new File(output, "schema/common");
+        Assert.assertTrue(schemas.mkdirs());
+        Files.write(new File(schemas, "UUID.json").toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(schemas, "README.md").toPath(), "".getBytes(StandardCharsets.UTF_8));
+
+        compile(output, source("com.microsoft.azure.toolkit.lib.common.cache.Preload", PRELOAD), source("com.example.Service", SERVICE));
+
+        Assert.assertEquals(Arrays.asList("com.example.Service#warmUp", "com.example.Service$Inner#load"),
+            entries(output, ClasspathIndexProcessor.PRELOAD_INDEX));
+        Assert.assertEquals(Collections.singletonList("schema/common/UUID.json"), entries(output, ClasspathIndexProcessor.SCHEMA_INDEX));
+    }
+
+    @Test
+    public void emptyIndexesAreGenerated() throws IOException {
+        final File output = folder.newFolder("classes");
+
+        compile(output, source("com.example.Plain", "package com.example;\npublic class Plain {}\n"));
+
+        Assert.assertTrue(entries(output, ClasspathIndexProcessor.PRELOAD_INDEX).isEmpty());
+        Assert.assertTrue(entries(output, ClasspathIndexProcessor.SCHEMA_INDEX).isEmpty());
+    }
+
+    private static void compile(File output, JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+        try (final StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, null, null, null, Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new ClasspathIndexProcessor()));
+            Assert.assertTrue(task.call());
+        }
+    }
+
+    private static List<String> entries(File output, String index) throws IOException {
+        return Files.readAllLines(new File(output, index).toPath(), StandardCharsets.UTF_8).stream()
+            .filter(line -> !line.startsWith("#"))
+            .collect(Collectors.toList());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        final URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
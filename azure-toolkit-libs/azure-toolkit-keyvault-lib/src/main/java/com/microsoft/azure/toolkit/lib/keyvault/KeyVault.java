@@ -5,12 +5,16 @@
 
 package com.microsoft.azure.toolkit.lib.keyvault;
 
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
 import com.azure.resourcemanager.keyvault.models.Vault;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
 import com.azure.security.keyvault.certificates.CertificateAsyncClient;
 import com.azure.security.keyvault.certificates.CertificateClientBuilder;
 import com.azure.security.keyvault.keys.KeyAsyncClient;
+import com.azure.security.keyvault.keys.KeyClientBuilder;
 import com.azure.security.keyvault.secrets.SecretAsyncClient;
+import com.azure.security.keyvault.secrets.SecretClientBuilder;
 import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.auth.Account;
 import com.microsoft.azure.toolkit.lib.auth.AzureAccount;
@@ -34,8 +38,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.microsoft.azure.toolkit.lib.common.action.Action.OPEN_URL;
 
@@ -45,14 +51,17 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
     private final SecretModule secretModule;
     private final CertificateModule certificateModule;
 
-    @Nullable
-    private volatile CertificateAsyncClient certificateClient;
+    /**
+     * data plane clients of this vault, shared by all copies until the vault is refreshed.
+     */
+    private final Map<Class<?>, Object> clients;
 
     protected KeyVault(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull KeyVaultModule module) {
         super(name, resourceGroupName, module);
         this.keyModule = new KeyModule(this);
         this.secretModule = new SecretModule(this);
         this.certificateModule = new CertificateModule(this);
+        this.clients = new ConcurrentHashMap<>();
     }
 
     protected KeyVault(@Nonnull KeyVault origin) {
@@ -60,8 +69,7 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
         this.keyModule = origin.keyModule;
         this.secretModule = origin.secretModule;
         this.certificateModule = origin.certificateModule;
-
-        this.certificateClient = origin.certificateClient;
+        this.clients = origin.clients;
     }
 
     protected KeyVault(@Nonnull Vault remote, @Nonnull KeyVaultModule module) {
@@ -69,6 +77,7 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
         this.keyModule = new KeyModule(this);
         this.secretModule = new SecretModule(this);
         this.certificateModule = new CertificateModule(this);
+        this.clients = new ConcurrentHashMap<>();
     }
 
     @Nonnull
@@ -105,19 +114,10 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
         return this.certificateModule;
     }
 
+    @Nullable
     public CertificateAsyncClient getCertificateClient() {
-        if (certificateClient == null) {
-            synchronized (this) {
-                if (certificateClient == null && Objects.nonNull(getVaultUri())) {
-                    final Account account = Azure.az(AzureAccount.class).account();
-                    certificateClient = new CertificateClientBuilder()
-                        .vaultUrl(getVaultUri())
-                        .credential(account.getTokenCredential(getSubscriptionId()))
-                        .buildAsyncClient();
-                }
-            }
-        }
-        return certificateClient;
+        return this.getClient(CertificateAsyncClient.class, (uri, credential, httpClient) -> new CertificateClientBuilder()
+            .vaultUrl(uri).credential(credential).httpClient(httpClient).buildAsyncClient());
     }
 
     public Secret createNewSecret(@Nonnull final String key, @Nonnull final String value) {
@@ -144,12 +144,40 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
         return draft.commit();
     }
 
+    @Nullable
     public SecretAsyncClient getSecretClient() {
-        return Optional.ofNullable(getRemote()).map(Vault::secretClient).orElse(null);
+        return this.getClient(SecretAsyncClient.class, (uri, credential, httpClient) -> new SecretClientBuilder()
+            .vaultUrl(uri).credential(credential).httpClient(httpClient).buildAsyncClient());
     }
 
+    @Nullable
     public KeyAsyncClient getKeyClient() {
-        return Optional.ofNullable(getRemote()).map(Vault::keyClient).orElse(null);
+        return this.getClient(KeyAsyncClient.class, (uri, credential, httpClient) -> new KeyClientBuilder()
+            .vaultUrl(uri).credential(credential).httpClient(httpClient).buildAsyncClient());
+    }
+
+    /**
+     * data plane clients are built once per vault and share the http client (connection pool) of the management client.
+     */
+    @Nullable
+    private <T> T getClient(@Nonnull Class<T> type, @Nonnull ClientFactory<T> factory) {
+        final String vaultUri = this.getVaultUri();
+        if (Objects.isNull(vaultUri)) {
+            return null;
+        }
+        return type.cast(this.clients.computeIfAbsent(type, t -> {
+            final Account account = Azure.az(AzureAccount.class).account();
+            final HttpClient httpClient = Optional.ofNullable(this.getParent().getRemote())
+                .map(manager -> manager.httpPipeline().getHttpClient()).orElse(null);
+            return factory.create(vaultUri, account.getTokenCredential(getSubscriptionId()), httpClient);
+        }));
+    }
+
+    @Override
+    protected void updateAdditionalProperties(@Nullable Vault newRemote, @Nullable Vault oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        // rebuilt on next use with the credential of the current account, e.g. after signing out or switching accounts.
+        this.clients.clear();
     }
 
     @Nullable
@@ -165,5 +193,9 @@ public class KeyVault extends AbstractAzResource<KeyVault, KeyVaultSubscription,
         final Action<String> action = AzureActionManager.getInstance().getAction(OPEN_URL).withLabel("Learn More");
         return Optional.ofNullable(action).map(a -> a.bind(url)).orElse(null);
     }
-}
 
+    @FunctionalInterface
+    private interface ClientFactory<T> {
+        T create(@Nonnull String vaultUri, @Nonnull TokenCredential credential, @Nullable HttpClient httpClient);
+    }
+}
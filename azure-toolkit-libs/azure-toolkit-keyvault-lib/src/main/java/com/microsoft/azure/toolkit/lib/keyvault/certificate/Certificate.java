@@ -21,7 +21,6 @@ import com.microsoft.azure.toolkit.lib.keyvault.KeyVault;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -77,10 +76,7 @@ public class Certificate extends AbstractAzResource<Certificate, KeyVault, Certi
 
     @Nullable
     public String getCurrentVersionId() {
-        return this.versions().list().stream()
-            .filter(version -> Objects.nonNull(version.getProperties()))
-            .max(Comparator.comparing(version -> version.getProperties().getCreatedOn()))
-            .map(CertificateVersion::getVersion).orElse(null);
+        return this.versions().getLatestVersionName();
     }
 
     @Nullable
@@ -5,22 +5,25 @@
 
 package com.microsoft.azure.toolkit.lib.keyvault.certificate;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.util.paging.ContinuablePage;
 import com.azure.security.keyvault.certificates.CertificateAsyncClient;
 import com.azure.security.keyvault.certificates.models.CertificateProperties;
+import com.azure.security.keyvault.certificates.models.KeyVaultCertificateWithPolicy;
 import com.microsoft.azure.toolkit.lib.common.action.Action;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -28,9 +31,13 @@ import static com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource.is
 import static com.microsoft.azure.toolkit.lib.keyvault.KeyVault.getAccessPolicyConfiureAction;
 import static com.microsoft.azure.toolkit.lib.keyvault.KeyVault.getAccessPolicyLearnMoreAction;
 
+@Slf4j
 public class CertificateVersionModule extends AbstractAzResourceModule<CertificateVersion, Certificate, CertificateProperties> {
     public static final String NAME = "versions";
 
+    @Nullable
+    private volatile CertificateProperties latest;
+
     public CertificateVersionModule(Certificate parent) {
         super(NAME, parent);
     }
@@ -59,12 +66,13 @@ public class CertificateVersionModule extends AbstractAzResourceModule<Certifica
     @AzureOperation(name = "azure/keyvault.load_certificate_version.version", params = {"name"})
     protected CertificateProperties loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
         try {
-            final List<CertificateProperties> versions = Optional.ofNullable(getClient())
-                .map(keys -> keys.listPropertiesOfCertificateVersions(getParent().getName()).collectList().block())
-                .orElse(null);
-            return Objects.isNull(versions) ? null : versions.stream()
-                .filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name))
-                .findFirst()
+            // use the latest version fetched by `getLatestVersionName()` or stop listing once the version is found.
+            final CertificateProperties latest = this.latest;
+            if (Objects.nonNull(latest) && StringUtils.equalsIgnoreCase(latest.getVersion(), name)) {
+                return latest;
+            }
+            return Optional.ofNullable(getClient())
+                .map(c -> c.listPropertiesOfCertificateVersions(getParent().getName()).filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name)).next().block())
                 .orElse(null);
         } catch (final Throwable t) {
             if (isHttpException(t, 403)) {
@@ -76,6 +84,41 @@ public class CertificateVersionModule extends AbstractAzResourceModule<Certifica
         }
     }
 
+    /**
+     * name of the latest enabled version (or the latest one if all are disabled). the latest version is fetched
+     * directly if versions are not loaded yet, so that the whole version history is loaded only on listing.
+     */
+    @Nullable
+    public String getLatestVersionName() {
+        if (this.syncTimeRef.get() < 0) {
+            final CertificateProperties latest = Objects.isNull(this.latest) ? this.loadLatestVersionFromAzure() : this.latest;
+            if (Objects.nonNull(latest) && Boolean.TRUE.equals(latest.isEnabled())) {
+                this.latest = latest;
+                return latest.getVersion();
+            }
+        }
+        return this.list().stream().map(CertificateVersion::getProperties).filter(Objects::nonNull)
+            .max(Comparator.comparing((CertificateProperties p) -> Boolean.TRUE.equals(p.isEnabled()))
+                .thenComparing(CertificateProperties::getCreatedOn, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .map(CertificateProperties::getVersion).orElse(null);
+    }
+
+    @Nullable
+    private CertificateProperties loadLatestVersionFromAzure() {
+        try {
+            return Optional.ofNullable(getClient()).map(c -> c.getCertificate(getParent().getName()).block()).map(KeyVaultCertificateWithPolicy::getProperties).orElse(null);
+        } catch (final HttpResponseException e) { // e.g. the latest version is disabled
+            log.debug("failed to get latest version of {}, fallback to list all versions.", getParent().getName(), e);
+            return null;
+        }
+    }
+
+    @Override
+    protected void invalidateCache() {
+        super.invalidateCache();
+        this.latest = null;
+    }
+
     @Nonnull
     @Override
     protected CertificateVersion newResource(@Nonnull CertificateProperties remote) {
@@ -19,9 +19,7 @@ import com.microsoft.azure.toolkit.lib.keyvault.KeyVault;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 public class Key extends AbstractAzResource<Key, KeyVault, KeyProperties> implements Deletable, Credential {
@@ -75,10 +73,7 @@ public class Key extends AbstractAzResource<Key, KeyVault, KeyProperties> implem
 
     @Nullable
     public String getCurrentVersionId() {
-        return this.versions().list().stream()
-            .filter(version -> Objects.nonNull(version.getProperties()))
-            .max(Comparator.comparing(version -> version.getProperties().getCreatedOn()))
-            .map(KeyVersion::getVersion).orElse(null);
+        return this.versions().getLatestVersionName();
     }
 
     @Nullable
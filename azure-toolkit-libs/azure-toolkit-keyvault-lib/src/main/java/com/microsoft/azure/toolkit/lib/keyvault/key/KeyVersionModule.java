@@ -5,23 +5,26 @@
 
 package com.microsoft.azure.toolkit.lib.keyvault.key;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.util.paging.ContinuablePage;
 import com.azure.security.keyvault.keys.KeyAsyncClient;
 import com.azure.security.keyvault.keys.models.KeyProperties;
+import com.azure.security.keyvault.keys.models.KeyVaultKey;
 import com.microsoft.azure.toolkit.lib.common.action.Action;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.model.page.ItemPage;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -29,9 +32,13 @@ import static com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource.is
 import static com.microsoft.azure.toolkit.lib.keyvault.KeyVault.getAccessPolicyConfiureAction;
 import static com.microsoft.azure.toolkit.lib.keyvault.KeyVault.getAccessPolicyLearnMoreAction;
 
+@Slf4j
 public class KeyVersionModule extends AbstractAzResourceModule<KeyVersion, Key, KeyProperties> {
     public static final String NAME = "versions";
 
+    @Nullable
+    private volatile KeyProperties latest;
+
     public KeyVersionModule(Key parent) {
         super(NAME, parent);
     }
@@ -60,12 +67,13 @@ public class KeyVersionModule extends AbstractAzResourceModule<KeyVersion, Key,
     @AzureOperation(name = "azure/keyvault.load_key_version.version", params = {"name"})
     protected KeyProperties loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
         try {
-            final List<KeyProperties> versions = Optional.ofNullable(getClient())
-                .map(keys -> keys.listPropertiesOfKeyVersions(getParent().getName()).collectList().block())
-                .orElse(null);
-            return Objects.isNull(versions) ? null : versions.stream()
-                .filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name))
-                .findFirst()
+            // use the latest version fetched by `getLatestVersionName()` or stop listing once the version is found.
+            final KeyProperties latest = this.latest;
+            if (Objects.nonNull(latest) && StringUtils.equalsIgnoreCase(latest.getVersion(), name)) {
+                return latest;
+            }
+            return Optional.ofNullable(getClient())
+                .map(c -> c.listPropertiesOfKeyVersions(getParent().getName()).filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name)).next().block())
                 .orElse(null);
         } catch (final Throwable t) {
             if (isHttpException(t, 403)) {
@@ -77,6 +85,41 @@ public class KeyVersionModule extends AbstractAzResourceModule<KeyVersion, Key,
         }
     }
 
+    /**
+     * name of the latest enabled version (or the latest one if all are disabled). the latest version is fetched
+     * directly if versions are not loaded yet, so that the whole version history is loaded only on listing.
+     */
+    @Nullable
+    public String getLatestVersionName() {
+        if (this.syncTimeRef.get() < 0) {
+            final KeyProperties latest = Objects.isNull(this.latest) ? this.loadLatestVersionFromAzure() : this.latest;
+            if (Objects.nonNull(latest) && Boolean.TRUE.equals(latest.isEnabled())) {
+                this.latest = latest;
+                return latest.getVersion();
+            }
+        }
+        return this.list().stream().map(KeyVersion::getProperties).filter(Objects::nonNull)
+            .max(Comparator.comparing((KeyProperties p) -> Boolean.TRUE.equals(p.isEnabled()))
+                .thenComparing(KeyProperties::getCreatedOn, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .map(KeyProperties::getVersion).orElse(null);
+    }
+
+    @Nullable
+    private KeyProperties loadLatestVersionFromAzure() {
+        try {
+            return Optional.ofNullable(getClient()).map(c -> c.getKey(getParent().getName()).block()).map(KeyVaultKey::getProperties).orElse(null);
+        } catch (final HttpResponseException e) { // e.g. the latest version is disabled
+            log.debug("failed to get latest version of {}, fallback to list all versions.", getParent().getName(), e);
+            return null;
+        }
+    }
+
+    @Override
+    protected void invalidateCache() {
+        super.invalidateCache();
+        this.latest = null;
+    }
+
     @Nonnull
     @Override
     protected KeyVersion newResource(@Nonnull KeyProperties remote) {
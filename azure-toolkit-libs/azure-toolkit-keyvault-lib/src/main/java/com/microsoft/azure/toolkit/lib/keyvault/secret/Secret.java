@@ -23,7 +23,6 @@ import com.microsoft.azure.toolkit.lib.keyvault.certificate.CertificateVersionDr
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -76,10 +75,7 @@ public class Secret extends AbstractAzResource<Secret, KeyVault, SecretPropertie
 
     @Nullable
     public String getCurrentVersionId() {
-        return this.versions().list().stream()
-            .filter(version -> Objects.nonNull(version.getProperties()))
-            .max(Comparator.comparing(version -> version.getProperties().getCreatedOn()))
-            .map(SecretVersion::getVersion).orElse(null);
+        return this.versions().getLatestVersionName();
     }
 
     public SecretVersionModule versions() {
@@ -20,8 +20,8 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -60,12 +60,9 @@ public class SecretVersionModule extends AbstractAzResourceModule<SecretVersion,
     @AzureOperation(name = "azure/keyvault.load_secret_version.version", params = {"name"})
     protected SecretProperties loadResourceFromAzure(@Nonnull String name, @Nullable String resourceGroup) {
         try {
-            final List<SecretProperties> versions = Optional.ofNullable(getClient())
-                .map(keys -> keys.listPropertiesOfSecretVersions(getParent().getName()).collectList().block())
-                .orElse(null);
-            return Objects.isNull(versions) ? null : versions.stream()
-                .filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name))
-                .findFirst()
+            // stop listing once the version is found.
+            return Optional.ofNullable(getClient())
+                .map(c -> c.listPropertiesOfSecretVersions(getParent().getName()).filter(s -> StringUtils.equalsIgnoreCase(s.getVersion(), name)).next().block())
                 .orElse(null);
         } catch (final Throwable t) {
             if (isHttpException(t, 403)) {
@@ -77,6 +74,19 @@ public class SecretVersionModule extends AbstractAzResourceModule<SecretVersion,
         }
     }
 
+    /**
+     * name of the latest enabled version (or the latest one if all are disabled). unlike keys and certificates, the
+     * latest secret is not fetched directly, because getting a secret requires the `get` permission, returns the
+     * secret value and is audited as a secret read, while listing versions only needs `list`.
+     */
+    @Nullable
+    public String getLatestVersionName() {
+        return this.list().stream().map(SecretVersion::getProperties).filter(Objects::nonNull)
+            .max(Comparator.comparing((SecretProperties p) -> Boolean.TRUE.equals(p.isEnabled()))
+                .thenComparing(SecretProperties::getCreatedOn, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .map(SecretProperties::getVersion).orElse(null);
+    }
+
     @Nonnull
     @Override
     protected SecretVersion newResource(@Nonnull SecretProperties remote) {
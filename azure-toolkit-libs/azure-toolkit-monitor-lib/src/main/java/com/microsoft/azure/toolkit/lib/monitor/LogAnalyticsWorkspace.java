@@ -2,35 +2,60 @@ package com.microsoft.azure.toolkit.lib.monitor;
 
 import com.azure.core.util.Context;
 import com.azure.monitor.query.LogsQueryClient;
+import com.azure.monitor.query.models.LogsColumnType;
 import com.azure.monitor.query.models.LogsQueryOptions;
 import com.azure.monitor.query.models.LogsTable;
+import com.azure.monitor.query.models.LogsTableCell;
+import com.azure.monitor.query.models.LogsTableRow;
+import com.azure.monitor.query.models.QueryTimeInterval;
 import com.azure.resourcemanager.loganalytics.LogAnalyticsManager;
 import com.azure.resourcemanager.loganalytics.models.Column;
+import com.azure.resourcemanager.loganalytics.models.Schema;
+import com.azure.resourcemanager.loganalytics.models.Table;
 import com.azure.resourcemanager.loganalytics.models.Workspace;
 import com.azure.resourcemanager.resources.fluentcore.arm.ResourceId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microsoft.azure.toolkit.lib.Azure;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
+import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Flux;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class LogAnalyticsWorkspace extends AbstractAzResource<LogAnalyticsWorkspace, LogAnalyticsServiceWorkspaceSubscription, Workspace> implements Deletable {
+    private static final int SCHEMA_TTL_MINUTES = 30;
+    private static final String ITEM_ID = "_ItemId";
+    // marks that the schema of all tables is loaded (even if there is no table at all), table names are never empty.
+    private static final String ALL_TABLES = "";
+    // results of repeated (e.g. dashboard-style) queries, keyed on workspace, normalized query and time range.
+    private static final Cache<String, LogsTable> QUERY_RESULTS = Caffeine.newBuilder()
+        .maximumSize(64).expireAfterWrite(1, TimeUnit.MINUTES).build();
+
+    private final Cache<String, List<String>> tableColumns;
 
     protected LogAnalyticsWorkspace(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull LogAnalyticsWorkspaceModule module) {
         super(name, resourceGroupName, module);
+        this.tableColumns = Caffeine.newBuilder().expireAfterWrite(SCHEMA_TTL_MINUTES, TimeUnit.MINUTES).build();
     }
 
     protected LogAnalyticsWorkspace(@Nonnull LogAnalyticsWorkspace workspace) {
         super(workspace);
+        this.tableColumns = workspace.tableColumns;
     }
 
     protected LogAnalyticsWorkspace(@Nonnull Workspace remote, @Nonnull LogAnalyticsWorkspaceModule module) {
         super(remote.name(), ResourceId.fromString(remote.id()).resourceGroupName(), module);
+        this.tableColumns = Caffeine.newBuilder().expireAfterWrite(SCHEMA_TTL_MINUTES, TimeUnit.MINUTES).build();
     }
 
     @Nullable
@@ -63,23 +88,169 @@ public class LogAnalyticsWorkspace extends AbstractAzResource<LogAnalyticsWorksp
         return remote.provisioningState().toString();
     }
 
+    @Override
+    public void invalidateCache() {
+        super.invalidateCache();
+        this.tableColumns.invalidateAll();
+    }
+
     @Nullable
     public LogsTable executeQuery(String queryString) {
-        final LogsQueryOptions options = new LogsQueryOptions().setServerTimeout(Duration.ofSeconds(10));
+        return this.executeQuery(queryString, null);
+    }
+
+    @Nullable
+    public LogsTable executeQuery(@Nonnull String queryString, @Nullable QueryTimeInterval interval) {
+        return this.doExecuteQuery(queryString, interval);
+    }
+
+    /**
+     * execute query and cache the result for a short while (1 minute), so that repeated queries (e.g. refreshing a
+     * dashboard) don't hit the service again. results of relative time queries (e.g. {@code ago(5m)}) may be stale.
+     */
+    @Nullable
+    public LogsTable executeCachedQuery(@Nonnull String queryString, @Nullable QueryTimeInterval interval) {
+        final String workspaceId = getCustomerId();
+        if (Objects.isNull(workspaceId)) {
+            return null;
+        }
+        final String key = String.format("%s/%s/%s", workspaceId, normalize(queryString), interval);
+        final LogsTable cached = QUERY_RESULTS.getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        final LogsTable result = this.doExecuteQuery(queryString, interval);
+        Optional.ofNullable(result).ifPresent(r -> QUERY_RESULTS.put(key, r));
+        return result;
+    }
+
+    /**
+     * stream rows of a (potentially large) query page by page, see {@link #streamQuery(String, String, String, QueryTimeInterval, int)},
+     * rows are paged by {@code sortColumn} and {@code _ItemId}, the unique id of records in Log Analytics tables.
+     */
+    @Nonnull
+    public Flux<LogsTableRow> streamQuery(@Nonnull String queryString, @Nonnull String sortColumn, @Nullable QueryTimeInterval interval, int pageSize) {
+        return this.streamQuery(queryString, sortColumn, ITEM_ID, interval, pageSize);
+    }
+
+    /**
+     * stream rows of a (potentially large) query page by page, each page is fetched on demand. rows are paged by
+     * ({@code sortColumn}, {@code uniqueColumn}) ascending, every page continues after the last key of the previous
+     * one, so that each page costs one bounded query. rows whose key is null are skipped.
+     *
+     * @param sortColumn   column of a scalar type (e.g. {@code TimeGenerated}) to sort and page by.
+     * @param uniqueColumn column of a scalar type which is unique among the rows, breaks ties of {@code sortColumn}.
+     */
+    @Nonnull
+    public Flux<LogsTableRow> streamQuery(@Nonnull String queryString, @Nonnull String sortColumn, @Nonnull String uniqueColumn,
+                                          @Nullable QueryTimeInterval interval, int pageSize) {
+        final String query = String.format("%s\n| where isnotnull(%s) and isnotnull(%s)", StringUtils.removeEnd(queryString.trim(), ";"), sortColumn, uniqueColumn);
+        return Flux.<List<LogsTableRow>, PageCursor>generate(PageCursor::new, (cursor, sink) -> {
+            if (cursor.done) {
+                sink.complete();
+                return cursor;
+            }
+            final String after = Objects.isNull(cursor.sortKey) ? "" : String.format("\n| where %1$s > %2$s or (%1$s == %2$s and %3$s > %4$s)",
+                sortColumn, cursor.sortKey, uniqueColumn, cursor.uniqueKey);
+            final List<LogsTableRow> rows = this.queryRows(String.format("%s%s\n| sort by %s asc, %s asc\n| take %d",
+                query, after, sortColumn, uniqueColumn, pageSize), interval);
+            if (rows.size() < pageSize) {
+                cursor.done = true;
+            } else {
+                final LogsTableRow last = rows.get(rows.size() - 1);
+                cursor.sortKey = toLiteral(getCell(last, sortColumn));
+                cursor.uniqueKey = toLiteral(getCell(last, uniqueColumn));
+            }
+            sink.next(rows);
+            return cursor;
+        }).flatMapIterable(rows -> rows);
+    }
+
+    public void invalidateQueryResults() {
+        Optional.ofNullable(getCustomerId()).ifPresent(id -> QUERY_RESULTS.asMap().keySet().removeIf(k -> k.startsWith(id + "/")));
+    }
+
+    @Nullable
+    private LogsTable doExecuteQuery(@Nonnull String queryString, @Nullable QueryTimeInterval interval) {
+        final int timeout = Azure.az().config().getMonitorQueryTimeoutInSeconds();
+        final LogsQueryOptions options = new LogsQueryOptions().setServerTimeout(Duration.ofSeconds(timeout));
         final String workspaceId = getCustomerId();
         final LogsQueryClient client = getParent().getLosQueryClient();
         if (Objects.nonNull(workspaceId) && Objects.nonNull(client)) {
-            return client.queryWorkspaceWithResponse(workspaceId, queryString, null, options, Context.NONE).getValue().getTable();
+            return client.queryWorkspaceWithResponse(workspaceId, queryString, interval, options, Context.NONE).getValue().getTable();
         }
         return null;
     }
 
+    /**
+     * columns are served from the schema of all tables, which is loaded (in one request) and cached on first use.
+     */
     public List<String> getTableColumnNames(String tableName) {
         final LogAnalyticsManager manager = getParent().getRemote();
         if (Objects.isNull(manager)) {
             return new ArrayList<>();
         }
-        return manager.tables().get(getResourceGroupName(), getName(), tableName).schema().standardColumns()
+        if (Objects.isNull(this.tableColumns.getIfPresent(ALL_TABLES))) {
+            manager.tables().listByWorkspace(getResourceGroupName(), getName())
+                .forEach(t -> this.tableColumns.put(t.name(), getColumnNames(t)));
+            this.tableColumns.put(ALL_TABLES, Collections.emptyList());
+        }
+        // e.g. custom tables created after the schema was loaded.
+        return new ArrayList<>(this.tableColumns.get(tableName, n -> getColumnNames(manager.tables().get(getResourceGroupName(), getName(), n))));
+    }
+
+    @Nonnull
+    private static List<String> getColumnNames(@Nonnull Table table) {
+        return Optional.ofNullable(table.schema()).map(Schema::standardColumns).orElse(Collections.emptyList())
                 .stream().map(Column::name).collect(Collectors.toList());
     }
+
+    @Nonnull
+    private List<LogsTableRow> queryRows(@Nonnull String query, @Nullable QueryTimeInterval interval) {
+        return Optional.ofNullable(this.doExecuteQuery(query, interval)).map(LogsTable::getRows).orElseGet(Collections::emptyList);
+    }
+
+    @Nonnull
+    private static LogsTableCell getCell(@Nonnull LogsTableRow row, @Nonnull String column) {
+        return row.getColumnValue(column)
+            .orElseThrow(() -> new AzureToolkitRuntimeException(String.format("column '%s' is not found in query result.", column)));
+    }
+
+    @Nonnull
+    private static String toLiteral(@Nonnull LogsTableCell cell) {
+        final String value = cell.getValueAsString();
+        final LogsColumnType type = cell.getColumnType();
+        if (LogsColumnType.DATETIME.equals(type)) {
+            return String.format("datetime(%s)", value);
+        } else if (LogsColumnType.TIMESPAN.equals(type)) {
+            return String.format("timespan(%s)", value);
+        } else if (LogsColumnType.GUID.equals(type)) {
+            return String.format("guid(%s)", value);
+        } else if (LogsColumnType.STRING.equals(type)) {
+            return String.format("'%s'", value.replace("\\", "\\\\").replace("'", "\\'"));
+        } else if (LogsColumnType.REAL.equals(type)) {
+            // the shortest text that reads back as the same double, e.g. `0.1` instead of a rounded or truncated form.
+            final double real = cell.getValueAsDouble();
+            return Double.isNaN(real) ? "real(nan)" : Double.isInfinite(real) ? (real > 0 ? "real(+inf)" : "real(-inf)") : String.format("real(%s)", real);
+        } else if (LogsColumnType.DECIMAL.equals(type)) {
+            return String.format("decimal(%s)", value);
+        } else if (LogsColumnType.DYNAMIC.equals(type)) {
+            throw new AzureToolkitRuntimeException(String.format("can not page by dynamic column '%s'.", cell.getColumnName()));
+        }
+        return value; // bool, int, long
+    }
+
+    @Nonnull
+    private static String normalize(@Nonnull String query) {
+        return StringUtils.removeEnd(StringUtils.normalizeSpace(query), ";").trim();
+    }
+
+    private static class PageCursor {
+        // literals of the last key returned
+        @Nullable
+        private String sortKey;
+        @Nullable
+        private String uniqueKey;
+        private boolean done;
+    }
 }
@@ -17,7 +17,7 @@ import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
 import com.microsoft.azure.toolkit.lib.common.model.Startable;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
-import com.microsoft.azure.toolkit.lib.common.utils.NetUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.PublicIpResolver;
 import com.microsoft.azure.toolkit.lib.database.JdbcUrl;
 import com.microsoft.azure.toolkit.lib.database.entity.IDatabaseServer;
 import com.microsoft.azure.toolkit.lib.database.entity.IFirewallRule;
@@ -25,8 +25,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -156,20 +154,9 @@ public class MySqlServer extends AbstractAzResource<MySqlServer, MySqlServiceSub
     @Nonnull
     @Override
     public String getLocalMachinePublicIp() {
-        // try to get public IP by ping MYSQL Server
-        String username = this.getAdminName() + "@" + this.getName();
-        try {
-            Class.forName("com.mysql.jdbc.Driver");
-            DriverManager.getConnection(JdbcUrl.mysql(this.getFullyQualifiedDomainName()).toString(), username, null);
-        } catch (SQLException e) {
-            String ip = NetUtils.parseIpAddressFromMessage(e.getMessage());
-            if (StringUtils.isNotBlank(ip)) {
-                return ip;
-            }
-        } catch (ClassNotFoundException ignored) {
-        }
-        // Alternatively, get public IP by ping public URL
-        return NetUtils.getPublicIp();
+        // try to get public IP by ping MYSQL Server, the resolved IP is cached and shared across servers.
+        final String username = this.getAdminName() + "@" + this.getName();
+        return PublicIpResolver.getInstance().resolve(PublicIpResolver.jdbcLoginProbe("com.mysql.jdbc.Driver", JdbcUrl.mysql(this.getFullyQualifiedDomainName()).toString(), username));
     }
 
     @Nonnull
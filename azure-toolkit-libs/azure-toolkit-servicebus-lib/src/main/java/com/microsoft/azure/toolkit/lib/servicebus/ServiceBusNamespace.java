@@ -10,6 +10,7 @@ import com.azure.resourcemanager.servicebus.ServiceBusManager;
 import com.azure.resourcemanager.servicebus.fluent.models.SBAuthorizationRuleInner;
 import com.azure.resourcemanager.servicebus.models.*;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.cache.ConnectionStringCache;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
@@ -29,18 +30,22 @@ public class ServiceBusNamespace extends AbstractAzResource<ServiceBusNamespace,
     private final ServiceBusQueueModule queueModule;
     @Nonnull
     private final ServiceBusTopicModule topicModule;
+    @Nonnull
+    private final ConnectionStringCache<AccessRights> connectionStrings;
     @Nullable
     private SkuTier skuTier;
     protected ServiceBusNamespace(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull ServiceBusNamespaceModule module) {
         super(name, resourceGroupName, module);
         this.queueModule = new ServiceBusQueueModule(this);
         this.topicModule = new ServiceBusTopicModule(this);
+        this.connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
     }
 
     protected ServiceBusNamespace(@Nonnull ServiceBusNamespace origin) {
         super(origin);
         this.queueModule = origin.queueModule;
         this.topicModule = origin.topicModule;
+        this.connectionStrings = origin.connectionStrings;
         this.skuTier = origin.skuTier;
     }
 
@@ -48,6 +53,7 @@ public class ServiceBusNamespace extends AbstractAzResource<ServiceBusNamespace,
         super(remote.name(), ResourceId.fromString(remote.id()).resourceGroupName(), module);
         this.queueModule = new ServiceBusQueueModule(this);
         this.topicModule = new ServiceBusTopicModule(this);
+        this.connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
         this.skuTier = remote.sku().tier();
     }
 
@@ -55,6 +61,15 @@ public class ServiceBusNamespace extends AbstractAzResource<ServiceBusNamespace,
     protected void updateAdditionalProperties(@Nullable com.azure.resourcemanager.servicebus.models.ServiceBusNamespace newRemote, @Nullable com.azure.resourcemanager.servicebus.models.ServiceBusNamespace oldRemote) {
         super.updateAdditionalProperties(newRemote, oldRemote);
         Optional.ofNullable(newRemote).ifPresent(r -> skuTier = r.sku().tier());
+        if (Objects.isNull(newRemote)) {
+            this.connectionStrings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        super.invalidateCache();
+        this.connectionStrings.invalidateAll();
     }
 
     @Nonnull
@@ -74,13 +89,24 @@ public class ServiceBusNamespace extends AbstractAzResource<ServiceBusNamespace,
 
     public String getOrCreateConnectionString() {
         final List<AccessRights> accessRights = Collections.singletonList(AccessRights.LISTEN);
-        final List<NamespaceAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
+        return this.connectionStrings.get(accessRights);
+    }
+
+    /**
+     * drop cached connection strings, e.g. after keys of the authorization rules are rotated.
+     */
+    public void invalidateConnectionStrings() {
+        this.connectionStrings.invalidateAll();
+    }
+
+    private String loadConnectionString(List<AccessRights> accessRights) {
+        final List<NamespaceAuthorizationRule> rules = Optional.ofNullable(getRemote())
                 .map(topic -> topic.authorizationRules().list().stream()
                         .filter(rule -> Objects.equals(rule.rights(), accessRights))
                         .collect(Collectors.toList()))
                 .orElse(new ArrayList<>());
-        if (connectionStrings.size() > 0) {
-            return connectionStrings.get(0).getKeys().primaryConnectionString();
+        if (rules.size() > 0) {
+            return rules.get(0).getKeys().primaryConnectionString();
         }
         if (!this.exists()) {
             throw new AzureToolkitRuntimeException(AzureString.format("resource ({0}) not found", getName()).toString());
@@ -6,9 +6,14 @@
 package com.microsoft.azure.toolkit.lib.servicebus.model;
 
 import com.azure.messaging.servicebus.*;
+import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
 import com.azure.resourcemanager.servicebus.models.AccessRights;
 import com.azure.resourcemanager.servicebus.models.EntityStatus;
+import com.microsoft.azure.toolkit.lib.Azure;
+import com.microsoft.azure.toolkit.lib.AzureConfiguration;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
+import com.microsoft.azure.toolkit.lib.common.cache.ConnectionStringCache;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
@@ -22,13 +27,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
 public abstract class ServiceBusInstance<
         T extends ServiceBusInstance<T, P, F>, P, F>
         extends AbstractAzResource<T, ServiceBusNamespace, F> implements ISenderReceiver {
+    static final int MAX_IN_FLIGHT_SENDS = 8;
     @Nullable
     protected EntityStatus entityStatus;
     @Nullable
+    private ServiceBusSenderClient senderClient;
+    private final Semaphore inFlightSends = new Semaphore(MAX_IN_FLIGHT_SENDS);
+    private final ConnectionStringCache<AccessRights> connectionStrings = new ConnectionStringCache<>(this::loadConnectionString);
+    @Nullable
     protected ServiceBusProcessorClient processorClient;
     @Nullable
     protected IAzureMessager messager;
@@ -43,10 +54,44 @@ public abstract class ServiceBusInstance<
         return Collections.emptyList();
     }
 
+    @Override
+    protected void updateAdditionalProperties(@Nullable F newRemote, @Nullable F oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.isNull(newRemote)) {
+            this.closeSenderClient();
+            this.connectionStrings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        super.invalidateCache();
+        this.connectionStrings.invalidateAll();
+    }
+
+    @Override
+    public void delete() {
+        this.closeSenderClient();
+        super.delete();
+    }
+
     public String getOrCreateListenConnectionString() {
         return getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN));
     }
-    protected abstract String getOrCreateConnectionString(List<AccessRights> accessRights);
+
+    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
+        return this.connectionStrings.get(accessRights);
+    }
+
+    protected abstract String loadConnectionString(List<AccessRights> accessRights);
+
+    /**
+     * drop cached connection strings and the sender built from them, e.g. after keys of the authorization rules are rotated.
+     */
+    public void invalidateConnectionStrings() {
+        this.connectionStrings.invalidateAll();
+        this.closeSenderClient();
+    }
 
     @Nullable
     public EntityStatus getEntityStatus() {
@@ -54,10 +99,132 @@ public abstract class ServiceBusInstance<
     }
     public abstract void updateStatus(EntityStatus status);
 
+    @Nonnull
+    protected abstract ServiceBusClientBuilder.ServiceBusSenderClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder);
+    @Nonnull
+    protected abstract ServiceBusClientBuilder.ServiceBusProcessorClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusProcessorClientBuilder builder);
+
     @Override
-    public abstract void sendMessage(String message);
+    public void sendMessage(String message) {
+        final IAzureMessager messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Sending message to %s (%s)...\n", getResourceTypeName(), getName()));
+        try {
+            this.doSendMessages(Collections.singletonList(message));
+            messager.info("Successfully sent message ");
+            messager.success(AzureString.format("\"%s\"", message));
+            messager.info(AzureString.format(" to %s (%s)\n", getResourceTypeName(), getName()));
+        } catch (final Exception e) {
+            messager.error(AzureString.format("Failed to send message to %s (%s): %s", getResourceTypeName(), getName(), e));
+        }
+    }
+
+    /**
+     * send messages through the long-lived sender of this entity, packing them into as few
+     * {@link ServiceBusMessageBatch batches} as possible.
+     *
+     * @return number of messages sent
+     */
+    public int sendMessages(@Nonnull List<String> messages) {
+        final IAzureMessager messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Sending %s messages to %s (%s)...\n", messages.size(), getResourceTypeName(), getName()));
+        try {
+            final int count = this.doSendMessages(messages);
+            messager.info(AzureString.format("Successfully sent %s messages to %s (%s)\n", count, getResourceTypeName(), getName()));
+            return count;
+        } catch (final Exception e) {
+            messager.error(AzureString.format("Failed to send messages to %s (%s): %s", getResourceTypeName(), getName(), e));
+            return 0;
+        }
+    }
+
+    private int doSendMessages(@Nonnull List<String> messages) {
+        final ServiceBusSenderClient sender = this.getOrCreateSenderClient();
+        try {
+            int sent = 0;
+            ServiceBusMessageBatch batch = sender.createMessageBatch();
+            for (final String message : messages) {
+                final ServiceBusMessage serviceBusMessage = new ServiceBusMessage(message);
+                if (batch.tryAddMessage(serviceBusMessage)) {
+                    continue;
+                }
+                if (batch.getCount() > 0) {
+                    sent += this.sendBatch(sender, batch);
+                    batch = sender.createMessageBatch();
+                }
+                if (!batch.tryAddMessage(serviceBusMessage)) {
+                    throw new AzureToolkitRuntimeException("Message is too large for an empty batch. Max size: " + batch.getMaxSizeInBytes());
+                }
+            }
+            if (batch.getCount() > 0) {
+                sent += this.sendBatch(sender, batch);
+            }
+            return sent;
+        } catch (final ServiceBusException e) {
+            // transient errors are already retried by the sender, which also recovers its link by itself.
+            if (e.getReason() == ServiceBusFailureReason.UNAUTHORIZED) {
+                this.connectionStrings.invalidateAll(); // keys may have been rotated.
+            }
+            if (!e.isTransient()) {
+                this.closeSenderClient(sender); // rebuilt on next send, unless another call has replaced it already.
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * the permit bounds batches in flight on the shared sender rather than callers.
+     */
+    private int sendBatch(@Nonnull ServiceBusSenderClient sender, @Nonnull ServiceBusMessageBatch batch) {
+        this.inFlightSends.acquireUninterruptibly();
+        try {
+            sender.sendMessages(batch);
+            return batch.getCount();
+        } finally {
+            this.inFlightSends.release();
+        }
+    }
+
+    @Nonnull
+    protected synchronized ServiceBusSenderClient getOrCreateSenderClient() {
+        if (Objects.isNull(this.senderClient)) {
+            final ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder = new ServiceBusClientBuilder()
+                    .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
+                    .sender();
+            this.senderClient = this.withEntity(builder).buildClient();
+        }
+        return this.senderClient;
+    }
+
+    public synchronized void closeSenderClient() {
+        Optional.ofNullable(this.senderClient).ifPresent(ServiceBusSenderClient::close);
+        this.senderClient = null;
+    }
+
+    private synchronized void closeSenderClient(@Nonnull ServiceBusSenderClient sender) {
+        if (this.senderClient == sender) {
+            this.closeSenderClient();
+        }
+    }
+
     @Override
-    public abstract void startReceivingMessage();
+    public synchronized void startReceivingMessage() {
+        final AzureConfiguration config = Azure.az().config();
+        messager = AzureMessager.getMessager();
+        messager.info(AzureString.format("Start listening to {0} ({1})\n", getResourceTypeName(), getName()));
+        final ServiceBusClientBuilder.ServiceBusProcessorClientBuilder builder = new ServiceBusClientBuilder()
+                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN)))
+                .processor();
+        this.processorClient = this.withEntity(builder)
+                .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
+                .prefetchCount(config.getServiceBusPrefetchCount())
+                .maxConcurrentCalls(config.getServiceBusMaxConcurrentCalls()) // bounds messages being processed at the same time.
+                .processMessage(this::processMessage)
+                .processError(this::processError)
+                .disableAutoComplete()  // Complete - causes the message to be deleted from the queue or topic.
+                .buildProcessorClient();
+        processorClient.start();
+    }
+
     @Override
     public boolean isListening() {
         return Objects.nonNull(this.processorClient);
@@ -99,6 +266,9 @@ public abstract class ServiceBusInstance<
         if (reason == ServiceBusFailureReason.MESSAGING_ENTITY_DISABLED
                 || reason == ServiceBusFailureReason.MESSAGING_ENTITY_NOT_FOUND
                 || reason == ServiceBusFailureReason.UNAUTHORIZED) {
+            if (reason == ServiceBusFailureReason.UNAUTHORIZED) {
+                this.connectionStrings.invalidateAll();
+            }
             messager.error(AzureString.format("An unrecoverable error occurred. Stopping processing with reason %s: %s\n",
                     reason, exception.getMessage()));
         } else if (reason == ServiceBusFailureReason.MESSAGE_LOCK_LOST) {
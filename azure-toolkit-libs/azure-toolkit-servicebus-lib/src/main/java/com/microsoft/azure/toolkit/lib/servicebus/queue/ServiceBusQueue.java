@@ -5,8 +5,7 @@
 
 package com.microsoft.azure.toolkit.lib.servicebus.queue;
 
-import com.azure.messaging.servicebus.*;
-import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.resourcemanager.servicebus.ServiceBusManager;
 import com.azure.resourcemanager.servicebus.fluent.ServiceBusManagementClient;
 import com.azure.resourcemanager.servicebus.fluent.models.SBAuthorizationRuleInner;
@@ -17,8 +16,6 @@ import com.azure.resourcemanager.servicebus.models.Queue;
 import com.azure.resourcemanager.servicebus.models.QueueAuthorizationRule;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
-import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
-import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
 import com.microsoft.azure.toolkit.lib.servicebus.model.ServiceBusInstance;
@@ -60,49 +57,27 @@ public class ServiceBusQueue extends ServiceBusInstance<ServiceBusQueue, Service
                 .ifPresent(c -> doModify(() -> c.createOrUpdate(getResourceGroupName(), namespace.getName(), getName(), inner.withStatus(status)), Status.UPDATING));
     }
 
+    @Nonnull
     @Override
-    public void sendMessage(String message) {
-        final IAzureMessager messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Sending message to Service Bus Queue (%s)...\n", getName()));
-        try (final ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
-                .sender()
-                .queueName(getName())
-                .buildClient()) {
-            senderClient.sendMessage(new ServiceBusMessage(message));
-            messager.info("Successfully sent message ");
-            messager.success(AzureString.format("\"%s\"", message));
-            messager.info(AzureString.format(" to Service Bus Queue (%s)\n", getName()));
-        } catch (final Exception e) {
-            messager.error(AzureString.format("Failed to send message to Service Bus Queue (%s): %s", getName(), e));
-        }
+    protected ServiceBusClientBuilder.ServiceBusSenderClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder) {
+        return builder.queueName(getName());
     }
 
+    @Nonnull
     @Override
-    public synchronized void startReceivingMessage() {
-        messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Start listening to Service Bus Queue ({0})\n", getName()));
-        this.processorClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN)))
-                .processor()
-                .queueName(getName())
-                .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
-                .processMessage(this::processMessage)
-                .processError(this::processError)
-                .disableAutoComplete()  // Complete - causes the message to be deleted from the queue or topic.
-                .buildProcessorClient();
-        processorClient.start();
+    protected ServiceBusClientBuilder.ServiceBusProcessorClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusProcessorClientBuilder builder) {
+        return builder.queueName(getName());
     }
 
     @Override
-    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
-        final List<QueueAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
+    protected String loadConnectionString(List<AccessRights> accessRights) {
+        final List<QueueAuthorizationRule> rules = Optional.ofNullable(getRemote())
                 .map(queue -> queue.authorizationRules().list().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
                         .collect(Collectors.toList()))
                 .orElse(new ArrayList<>());
-        if (connectionStrings.size() > 0) {
-            return connectionStrings.get(0).getKeys().primaryConnectionString();
+        if (rules.size() > 0) {
+            return rules.get(0).getKeys().primaryConnectionString();
         }
         final ServiceBusManager manager = getParent().getParent().getRemote();
         if (Objects.isNull(manager)) {
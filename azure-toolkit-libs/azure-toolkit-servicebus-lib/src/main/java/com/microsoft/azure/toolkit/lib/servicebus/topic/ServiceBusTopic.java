@@ -5,8 +5,7 @@
 
 package com.microsoft.azure.toolkit.lib.servicebus.topic;
 
-import com.azure.messaging.servicebus.*;
-import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.resourcemanager.servicebus.ServiceBusManager;
 import com.azure.resourcemanager.servicebus.fluent.ServiceBusManagementClient;
 import com.azure.resourcemanager.servicebus.fluent.models.SBAuthorizationRuleInner;
@@ -14,8 +13,6 @@ import com.azure.resourcemanager.servicebus.fluent.models.SBTopicInner;
 import com.azure.resourcemanager.servicebus.models.*;
 import com.microsoft.azure.toolkit.lib.common.bundle.AzureString;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
-import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
-import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.utils.Utils;
 import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
@@ -58,50 +55,28 @@ public class ServiceBusTopic extends ServiceBusInstance<ServiceBusTopic, Service
                 .ifPresent(c -> doModify(() -> c.createOrUpdate(getResourceGroupName(), namespace.getName(), getName(), inner.withStatus(status)), Status.UPDATING));
     }
 
+    @Nonnull
     @Override
-    public void sendMessage(String message) {
-        final IAzureMessager messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Sending message to Service Bus Topic (%s)...\n", getName()));
-        try (final ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.SEND)))
-                .sender()
-                .topicName(getName())
-                .buildClient()) {
-            senderClient.sendMessage(new ServiceBusMessage(message));
-            messager.info("Successfully sent message ");
-            messager.success(AzureString.format("\"%s\"", message));
-            messager.info(AzureString.format(" to Service Bus Topic (%s)\n", getName()));
-        } catch (final Exception e) {
-            messager.error(AzureString.format("Failed to send message to Service Bus Topic (%s): %s", getName(), e));
-        }
+    protected ServiceBusClientBuilder.ServiceBusSenderClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder) {
+        return builder.topicName(getName());
     }
 
+    @Nonnull
     @Override
-    public synchronized void startReceivingMessage() {
-        messager = AzureMessager.getMessager();
-        messager.info(AzureString.format("Start listening to Service Bus Topic ({0})\n", getName()));
-        this.processorClient = new ServiceBusClientBuilder()
-                .connectionString(getOrCreateConnectionString(Collections.singletonList(AccessRights.LISTEN)))
-                .processor()
-                .topicName(getName())
-                .subscriptionName(getOrCreateSubscription().name())
-                .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
-                .processMessage(this::processMessage)
-                .processError(this::processError)
-                .disableAutoComplete()  // Complete - causes the message to be deleted from the queue or topic.
-                .buildProcessorClient();
-        processorClient.start();
+    protected ServiceBusClientBuilder.ServiceBusProcessorClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusProcessorClientBuilder builder) {
+        return builder.topicName(getName())
+                .subscriptionName(getOrCreateSubscription().name());
     }
 
     @Override
-    protected String getOrCreateConnectionString(List<AccessRights> accessRights) {
-        final List<TopicAuthorizationRule> connectionStrings = Optional.ofNullable(getRemote())
+    protected String loadConnectionString(List<AccessRights> accessRights) {
+        final List<TopicAuthorizationRule> rules = Optional.ofNullable(getRemote())
                 .map(topic -> topic.authorizationRules().list().stream()
                         .filter(rule -> new HashSet<>(rule.rights()).containsAll(accessRights))
                         .collect(Collectors.toList()))
                 .orElse(new ArrayList<>());
-        if (connectionStrings.size() > 0) {
-            return connectionStrings.get(0).getKeys().primaryConnectionString();
+        if (rules.size() > 0) {
+            return rules.get(0).getKeys().primaryConnectionString();
         }
         final ServiceBusManager manager = getParent().getParent().getRemote();
         if (Objects.isNull(manager)) {
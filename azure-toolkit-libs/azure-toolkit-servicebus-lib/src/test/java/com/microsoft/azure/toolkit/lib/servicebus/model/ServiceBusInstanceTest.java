@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.servicebus.model;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import com.azure.resourcemanager.servicebus.models.AccessRights;
+import com.azure.resourcemanager.servicebus.models.EntityStatus;
+import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
+import com.microsoft.azure.toolkit.lib.servicebus.ServiceBusNamespace;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ServiceBusInstanceTest {
+    private ServiceBusSenderClient sender;
+    private TestInstance instance;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        this.sender = mock(ServiceBusSenderClient.class);
+        final ServiceBusNamespace namespace = mock(ServiceBusNamespace.class);
+        when(namespace.getResourceGroupName()).thenReturn("rg");
+        final AbstractAzResourceModule<TestInstance, ServiceBusNamespace, Object> module = mock(AbstractAzResourceModule.class);
+        when(module.getParent()).thenReturn(namespace);
+        this.instance = new TestInstance(module, sender);
+    }
+
+    @Test
+    public void messagesArePackedIntoFewestBatches() {
+        when(sender.createMessageBatch()).thenAnswer(i -> batchOf(2));
+
+        final int sent = instance.sendMessages(Arrays.asList("1", "2", "3", "4", "5"));
+
+        Assert.assertEquals(5, sent);
+        verify(sender, times(3)).sendMessages(any(ServiceBusMessageBatch.class));
+    }
+
+    @Test
+    public void messageTooLargeForEmptyBatchIsNotSent() {
+        when(sender.createMessageBatch()).thenAnswer(i -> batchOf(0));
+
+        final int sent = instance.sendMessages(Collections.singletonList("too large"));
+
+        Assert.assertEquals(0, sent);
+        verify(sender, never()).sendMessages(any(ServiceBusMessageBatch.class));
+    }
+
+    @Test
+    public void batchesInFlightAreBounded() throws Exception {
+        when(sender.createMessageBatch()).thenAnswer(i -> batchOf(1));
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final CountDownLatch released = new CountDownLatch(1);
+        doAnswer(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            released.await(30, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(sender).sendMessages(any(ServiceBusMessageBatch.class));
+
+        final int callers = ServiceBusInstance.MAX_IN_FLIGHT_SENDS * 2;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            final String message = String.valueOf(i);
+            results.add(executor.submit(() -> instance.sendMessages(Collections.singletonList(message))));
+        }
+        waitUntil(() -> inFlight.get() >= ServiceBusInstance.MAX_IN_FLIGHT_SENDS);
+        Thread.sleep(200); // gives the callers beyond the bound a chance to (wrongly) get through.
+        Assert.assertEquals(ServiceBusInstance.MAX_IN_FLIGHT_SENDS, inFlight.get());
+
+        released.countDown();
+        for (final Future<Integer> result : results) {
+            Assert.assertEquals(1, result.get(30, TimeUnit.SECONDS).intValue());
+        }
+        executor.shutdown();
+        Assert.assertEquals(ServiceBusInstance.MAX_IN_FLIGHT_SENDS, maxInFlight.get());
+        verify(sender, times(callers)).sendMessages(any(ServiceBusMessageBatch.class));
+    }
+
+    private static ServiceBusMessageBatch batchOf(int capacity) {
+        final ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        final AtomicInteger count = new AtomicInteger();
+        when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenAnswer(i -> {
+            if (count.get() >= capacity) {
+                return false;
+            }
+            count.incrementAndGet();
+            return true;
+        });
+        when(batch.getCount()).thenAnswer(i -> count.get());
+        return batch;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class TestInstance extends ServiceBusInstance<TestInstance, ServiceBusNamespace, Object> {
+        private final ServiceBusSenderClient sender;
+
+        TestInstance(@Nonnull AbstractAzResourceModule<TestInstance, ServiceBusNamespace, Object> module, @Nonnull ServiceBusSenderClient sender) {
+            super("entity", module);
+            this.sender = sender;
+        }
+
+        @Nonnull
+        @Override
+        protected synchronized ServiceBusSenderClient getOrCreateSenderClient() {
+            return this.sender;
+        }
+
+        @Override
+        protected String loadConnectionString(List<AccessRights> accessRights) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateStatus(EntityStatus status) {
+        }
+
+        @Nonnull
+        @Override
+        protected ServiceBusClientBuilder.ServiceBusSenderClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder) {
+            return builder;
+        }
+
+        @Nonnull
+        @Override
+        protected ServiceBusClientBuilder.ServiceBusProcessorClientBuilder withEntity(@Nonnull ServiceBusClientBuilder.ServiceBusProcessorClientBuilder builder) {
+            return builder;
+        }
+
+        @Nonnull
+        @Override
+        protected String loadStatus(@Nonnull Object remote) {
+            return "";
+        }
+    }
+}
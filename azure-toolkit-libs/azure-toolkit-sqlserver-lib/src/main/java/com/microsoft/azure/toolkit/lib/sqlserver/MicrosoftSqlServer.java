@@ -11,7 +11,7 @@ import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
-import com.microsoft.azure.toolkit.lib.common.utils.NetUtils;
+import com.microsoft.azure.toolkit.lib.common.utils.PublicIpResolver;
 import com.microsoft.azure.toolkit.lib.database.JdbcUrl;
 import com.microsoft.azure.toolkit.lib.database.entity.IDatabaseServer;
 import com.microsoft.azure.toolkit.lib.database.entity.IFirewallRule;
@@ -19,8 +19,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -120,22 +118,11 @@ public class MicrosoftSqlServer extends AbstractAzResource<MicrosoftSqlServer, M
     @Nonnull
     @Override
     public String getLocalMachinePublicIp() {
-        String ip;
-        // try to get public IP by ping SQL SqlServer
-        String username = this.getAdminName() + "@" + this.getName();
-        try {
-            Class.forName("com.microsoft.sqlserver.jdbc.SQLServerDriver");
-            DriverManager.getConnection(JdbcUrl.sqlserver(this.getFullyQualifiedDomainName()).toString(), username, null);
-        } catch (SQLException e) {
-            ip = StringUtils.trim(NetUtils.parseIpAddressFromMessage(e.getMessage()));
-            if (StringUtils.isNotBlank(ip) && NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find()) {
-                return ip;
-            }
-        } catch (ClassNotFoundException ignored) {
-        }
-        // Alternatively, get public IP by ping public URL
-        ip = NetUtils.getPublicIp();
-        if (StringUtils.isBlank(ip) || !NetUtils.INTACT_IPADDRESS_PATTERN.matcher(ip).find()) {
+        // try to get public IP by ping SQL SqlServer, the resolved IP is cached and shared across servers.
+        final String username = this.getAdminName() + "@" + this.getName();
+        final String url = JdbcUrl.sqlserver(this.getFullyQualifiedDomainName()).toString();
+        final String ip = PublicIpResolver.getInstance().resolve(PublicIpResolver.jdbcLoginProbe("com.microsoft.sqlserver.jdbc.SQLServerDriver", url, username));
+        if (StringUtils.isBlank(ip)) {
             throw new AzureToolkitRuntimeException("Failed to retrieve public IP in your environment, please confirm your network is available.");
         }
         return ip;
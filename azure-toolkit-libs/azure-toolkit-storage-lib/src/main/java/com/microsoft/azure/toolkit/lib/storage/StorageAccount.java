@@ -7,6 +7,8 @@ package com.microsoft.azure.toolkit.lib.storage;
 
 import com.azure.core.management.AzureEnvironment;
 import com.azure.resourcemanager.resources.fluentcore.utils.ResourceManagerUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.microsoft.azure.toolkit.lib.Azure;
 import com.microsoft.azure.toolkit.lib.auth.AzureCloud;
 import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
@@ -14,6 +16,7 @@ import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
 import com.microsoft.azure.toolkit.lib.common.model.Region;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.storage.blob.BlobContainerModule;
 import com.microsoft.azure.toolkit.lib.storage.model.AccessTier;
 import com.microsoft.azure.toolkit.lib.storage.model.Kind;
@@ -22,24 +25,42 @@ import com.microsoft.azure.toolkit.lib.storage.model.Redundancy;
 import com.microsoft.azure.toolkit.lib.storage.queue.QueueModule;
 import com.microsoft.azure.toolkit.lib.storage.share.ShareModule;
 import com.microsoft.azure.toolkit.lib.storage.table.TableModule;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Getter
 public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount, StorageServiceSubscription, com.azure.resourcemanager.storage.models.StorageAccount>
     implements Deletable {
+    private static final long KEY_TTL_MINUTES = 30;
+    private static final String PRIMARY_KEY = "key1";
 
     protected final BlobContainerModule blobContainerModule;
     protected final ShareModule shareModule;
     protected final QueueModule queueModule;
     protected final TableModule tableModule;
     protected final List<AbstractAzResourceModule<?, ?, ?>> subModules = new ArrayList<>();
+    /**
+     * listing keys is a management operation subject to throttling, so keys are cached and shared by all copies.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, String> keys;
+    /**
+     * data plane service clients built with the cached key, dropped when the key changes.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, Object> serviceClients;
 
     protected StorageAccount(@Nonnull String name, @Nonnull String resourceGroupName, @Nonnull StorageAccountModule module) {
         super(name, resourceGroupName, module);
@@ -47,6 +68,8 @@ public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount,
         this.shareModule = new ShareModule(this);
         this.queueModule = new QueueModule(this);
         this.tableModule = new TableModule(this);
+        this.keys = Caffeine.newBuilder().expireAfterWrite(KEY_TTL_MINUTES, TimeUnit.MINUTES).build();
+        this.serviceClients = new ConcurrentHashMap<>();
     }
 
     /**
@@ -58,6 +81,8 @@ public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount,
         this.blobContainerModule = origin.blobContainerModule;
         this.queueModule = origin.queueModule;
         this.tableModule = origin.tableModule;
+        this.keys = origin.keys;
+        this.serviceClients = origin.serviceClients;
     }
 
     protected StorageAccount(@Nonnull com.azure.resourcemanager.storage.models.StorageAccount remote, @Nonnull StorageAccountModule module) {
@@ -66,6 +91,8 @@ public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount,
         this.shareModule = new ShareModule(this);
         this.queueModule = new QueueModule(this);
         this.tableModule = new TableModule(this);
+        this.keys = Caffeine.newBuilder().expireAfterWrite(KEY_TTL_MINUTES, TimeUnit.MINUTES).build();
+        this.serviceClients = new ConcurrentHashMap<>();
     }
 
     @Nonnull
@@ -110,11 +137,66 @@ public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount,
 
     @Nonnull
     public String getKey() {
+        return Objects.requireNonNull(this.keys.get(PRIMARY_KEY, this::loadKey));
+    }
+
+    @Nonnull
+    private String loadKey(@Nonnull String keyName) {
         final com.azure.resourcemanager.storage.models.StorageAccount remote = this.getRemote();
         if (Objects.isNull(remote)) {
             throw new AzureToolkitRuntimeException(String.format("Storage Account(%s) doesn't exist.", this.getName()));
         }
-        return Objects.requireNonNull(remote.getKeys().get(0).value());
+        final String key = remote.getKeys().stream().filter(k -> StringUtils.equalsIgnoreCase(k.keyName(), keyName))
+            .findFirst().orElseGet(() -> remote.getKeys().get(0)).value();
+        return Objects.requireNonNull(key);
+    }
+
+    /**
+     * get the data plane service client of this account (e.g. {@code BlobServiceClient}), clients are built with the
+     * connection string and reused until the key changes.
+     */
+    @Nonnull
+    public <T> T getServiceClient(@Nonnull Class<T> type, @Nonnull Function<String, T> builder) {
+        final String connectionString = this.getConnectionString();
+        final ServiceClient<?> client = (ServiceClient<?>) this.serviceClients.get(type);
+        if (Objects.nonNull(client) && Objects.equals(client.connectionString, connectionString)) {
+            return type.cast(client.client);
+        }
+        final T newClient = builder.apply(connectionString);
+        this.serviceClients.put(type, new ServiceClient<>(connectionString, newClient));
+        return newClient;
+    }
+
+    /**
+     * regenerate the key and drop cached keys and clients.
+     *
+     * @param keyName e.g. {@code key1} or {@code key2}
+     */
+    @AzureOperation(name = "azure/storage.regenerate_key.account", params = {"this.getName()"})
+    public void regenerateKey(@Nonnull String keyName) {
+        final com.azure.resourcemanager.storage.models.StorageAccount remote = this.getRemote();
+        if (Objects.isNull(remote)) {
+            throw new AzureToolkitRuntimeException(String.format("Storage Account(%s) doesn't exist.", this.getName()));
+        }
+        remote.regenerateKey(keyName);
+        this.invalidateKeys();
+    }
+
+    /**
+     * drop cached keys and clients, e.g. after keys are rotated outside of toolkit.
+     */
+    public void invalidateKeys() {
+        this.keys.invalidateAll();
+        this.serviceClients.clear();
+    }
+
+    @Override
+    protected void updateAdditionalProperties(@Nullable com.azure.resourcemanager.storage.models.StorageAccount newRemote,
+                                              @Nullable com.azure.resourcemanager.storage.models.StorageAccount oldRemote) {
+        super.updateAdditionalProperties(newRemote, oldRemote);
+        if (Objects.isNull(newRemote)) {
+            this.invalidateKeys();
+        }
     }
 
     @Nullable
@@ -160,4 +242,10 @@ public class StorageAccount extends AbstractEmulatableAzResource<StorageAccount,
     public AccessTier getAccessTier() {
         return remoteOptional().map(remote -> AccessTier.valueOf(remote.accessTier().name())).orElse(null);
     }
+
+    @RequiredArgsConstructor
+    private static class ServiceClient<T> {
+        private final String connectionString;
+        private final T client;
+    }
 }
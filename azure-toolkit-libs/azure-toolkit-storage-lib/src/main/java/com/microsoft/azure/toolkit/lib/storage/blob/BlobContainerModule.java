@@ -25,25 +25,19 @@ import java.util.Objects;
 public class BlobContainerModule extends AbstractEmulatableAzResourceModule<BlobContainer, StorageAccount, BlobContainerClient> {
 
     public static final String NAME = "Azure.BlobContainer";
-    private BlobServiceClient client;
 
     public BlobContainerModule(@Nonnull StorageAccount parent) {
         super(NAME, parent);
     }
 
-    @Override
-    protected void invalidateCache() {
-        super.invalidateCache();
-        this.client = null;
-    }
-
     @Nullable
-    synchronized BlobServiceClient getBlobServiceClient() {
-        if (Objects.isNull(this.client) && this.parent.exists()) {
-            final String connectionString = this.parent.getConnectionString();
-            this.client = new BlobServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient();
+    BlobServiceClient getBlobServiceClient() {
+        if (!this.parent.exists()) {
+            return null;
         }
-        return this.client;
+        // service clients are cached by the storage account and shared by copies of it.
+        return this.parent.getServiceClient(BlobServiceClient.class, connectionString ->
+            new BlobServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient());
     }
 
     @Nonnull
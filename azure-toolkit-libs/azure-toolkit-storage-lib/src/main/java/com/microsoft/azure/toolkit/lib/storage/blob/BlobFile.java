@@ -12,6 +12,7 @@ import com.azure.storage.blob.specialized.BlobClientBase;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import org.apache.commons.lang3.BooleanUtils;
 
@@ -94,7 +95,15 @@ public class BlobFile extends AbstractEmulatableAzResource<BlobFile, IBlobFile,
 
     @Override
     public void download(Path dest) {
-        Optional.ofNullable(this.getClient()).map(c -> c.getBlobClient(this.getPath())).ifPresent(client -> client.downloadToFile(dest.toAbsolutePath().toString()));
+        this.download(dest, TransferOptions.defaults());
+    }
+
+    /**
+     * download in parallel ranges, an interrupted download to the same {@code dest} is resumed if the blob is not changed.
+     */
+    public void download(@Nonnull Path dest, @Nonnull TransferOptions options) {
+        Optional.ofNullable(this.getClient()).map(c -> c.getBlobClient(this.getPath()))
+            .ifPresent(client -> BlobTransfer.download(client, dest.toAbsolutePath(), options));
     }
 
     @Override
@@ -17,6 +17,7 @@ import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.storage.model.StorageFile;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +39,9 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
     private String relativePath;
     @Setter
     private Path sourceFile;
+    @Setter
+    @Nullable
+    private TransferOptions transferOptions;
 
     BlobFileDraft(@Nonnull String name, @Nonnull BlobFileModule module) {
         super(name, module);
@@ -68,7 +72,7 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
         final IAzureMessager messager = AzureMessager.getMessager();
         if (Objects.nonNull(this.sourceFile)) {
             messager.info(AzureString.format("Start uploading file ({0}).", sourceFile.getFileName()));
-            client.uploadFromFile(this.sourceFile.toString());
+            BlobTransfer.upload(client.getBlockBlobClient(), this.sourceFile, false, this.getTransferOptions());
             final Action<StorageFile> open = AzureActionManager.getInstance().getAction(OPEN_FILE).bind(this);
             messager.success(AzureString.format("File ({0}) is successfully uploaded.", sourceFile.getFileName()), open);
         } else {
@@ -93,12 +97,17 @@ public class BlobFileDraft extends BlobFile implements StorageFile.Draft<BlobFil
         final IAzureMessager messager = AzureMessager.getMessager();
         messager.info(AzureString.format("Start updating Blob ({0})", fullPath));
         if (Objects.nonNull(this.sourceFile)) {
-            client.uploadFromFile(this.sourceFile.toString(), true);
+            BlobTransfer.upload(client.getBlockBlobClient(), this.sourceFile, true, this.getTransferOptions());
         }
         messager.info(AzureString.format("Blob ({0}) is successfully updated.", fullPath));
         return Objects.requireNonNull(module.loadResourceFromAzure(this.getName(), this.getParent().getResourceGroupName()));
     }
 
+    @Nonnull
+    private TransferOptions getTransferOptions() {
+        return Optional.ofNullable(this.transferOptions).orElseGet(TransferOptions::defaults);
+    }
+
     @Override
     public boolean isDirectory() {
         return Optional.ofNullable(this.directory).orElseGet(super::isDirectory);
@@ -6,27 +6,47 @@
 package com.microsoft.azure.toolkit.lib.storage.blob;
 
 import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
 import com.azure.core.util.paging.ContinuablePage;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
 import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.DeleteSnapshotsOptionType;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlobClientBase;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AzResource;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+@Slf4j
 public class BlobFileModule extends AbstractEmulatableAzResourceModule<BlobFile, IBlobFile, BlobItem> {
 
     public static final String NAME = "file";
+    private static final int LIST_PAGE_SIZE = 5000;
+    private static final int DELETE_BATCH_SIZE = 256;
+    private static final int DELETE_CONCURRENCY = 4;
 
     public BlobFileModule(@Nonnull IBlobFile parent) {
         super(NAME, parent);
@@ -68,20 +88,64 @@ public class BlobFileModule extends AbstractEmulatableAzResourceModule<BlobFile,
         }
     }
 
+    /**
+     * delete all blobs under the virtual directory, listed flat by prefix and deleted in batches in parallel.
+     */
     private void deleteDirectory(BlobItem current) {
         final BlobContainerClient containerClient = this.getClient();
         if (Objects.isNull(containerClient)) {
             return;
         }
-        final PagedIterable<BlobItem> files = containerClient.listBlobsByHierarchy(current.getName());
-        for (BlobItem file : files) {
-            if (BooleanUtils.isTrue(file.isPrefix())) {
-                deleteDirectory(file);
-            } else {
-                containerClient.getBlobClient(file.getName()).deleteIfExists();
+        final String prefix = current.getName();
+        final BlobBatchClient batchClient = new BlobBatchClientBuilder(containerClient).buildClient();
+        final ListBlobsOptions options = new ListBlobsOptions().setPrefix(prefix).setMaxResultsPerPage(LIST_PAGE_SIZE);
+        final List<String> failed = Flux.fromIterable(containerClient.listBlobs(options, null))
+            .map(BlobItem::getName)
+            .buffer(DELETE_BATCH_SIZE)
+            .flatMap(names -> Mono.fromCallable(() -> deleteBlobs(containerClient, batchClient, names))
+                .subscribeOn(Schedulers.boundedElastic()), DELETE_CONCURRENCY)
+            .flatMapIterable(f -> f)
+            .collectList().block();
+        containerClient.getBlobClient(current.getName()).deleteIfExists();
+        if (Objects.nonNull(failed) && !failed.isEmpty()) {
+            final String samples = failed.stream().limit(10).collect(Collectors.joining(", "));
+            throw new AzureToolkitRuntimeException(String.format("failed to delete %d blob(s) in directory (%s): %s%s",
+                failed.size(), prefix, samples, failed.size() > 10 ? ", ..." : ""));
+        }
+    }
+
+    /**
+     * @return names of blobs failed to delete.
+     */
+    @Nonnull
+    private static List<String> deleteBlobs(@Nonnull BlobContainerClient containerClient, @Nonnull BlobBatchClient batchClient, @Nonnull List<String> names) {
+        final List<String> failed = new ArrayList<>();
+        try {
+            final BlobBatch batch = batchClient.getBlobBatch();
+            final List<Response<Void>> responses = names.stream()
+                .map(name -> batch.deleteBlob(containerClient.getBlobContainerName(), name, DeleteSnapshotsOptionType.INCLUDE, null))
+                .collect(Collectors.toList());
+            batchClient.submitBatchWithResponse(batch, false, null, Context.NONE);
+            for (int i = 0; i < names.size(); i++) {
+                try {
+                    responses.get(i).getStatusCode();
+                } catch (final BlobStorageException e) {
+                    if (e.getStatusCode() != 404) {
+                        failed.add(names.get(i));
+                    }
+                }
+            }
+        } catch (final BlobStorageException e) { // e.g. batch is not supported by the emulator
+            log.debug("failed to delete blobs in batch, fallback to delete one by one.", e);
+            for (final String name : names) {
+                try {
+                    containerClient.getBlobClient(name).deleteIfExists();
+                } catch (final BlobStorageException ex) {
+                    failed.add(name);
+                }
             }
         }
-        containerClient.getBlobClient(current.getName()).deleteIfExists();
+        return failed;
     }
 
     @Nonnull
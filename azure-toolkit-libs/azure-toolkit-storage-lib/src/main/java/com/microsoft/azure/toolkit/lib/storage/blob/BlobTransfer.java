@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.storage.blob;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.Block;
+import com.azure.storage.blob.models.BlobDownloadResponse;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.common.utils.JsonUtils;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * parallel block upload and parallel ranged download of block blobs. both of them can be resumed after interruption:
+ * uploading skips blocks staged (but not committed yet) by previous attempts of the same file, and downloading skips
+ * ranges already written to the partial file ({@code <dest>.part}) if the blob is not changed since then.
+ */
+@Slf4j
+class BlobTransfer {
+    private static final int MAX_BLOCKS = 50000;
+    private static final long MAX_RANGE_MD5_SIZE = 4 * 1024 * 1024; // service computes MD5 of ranges up to 4 MiB.
+    private static final long MAX_BLOCK_SIZE = Integer.MAX_VALUE - 8; // a block (range) is buffered in one byte array.
+    private static final String PART_SUFFIX = ".part";
+    private static final String STATE_SUFFIX = ".part.json";
+
+    static void upload(@Nonnull BlockBlobClient client, @Nonnull Path source, boolean overwrite, @Nonnull TransferOptions options) {
+        try {
+            final long size = Files.size(source);
+            final long blockSize = checkBlockSize(Math.max(Math.max(1, options.getBlockSize()), (size + MAX_BLOCKS - 1) / MAX_BLOCKS));
+            final int count = blockCount(size, blockSize);
+            // block ids of the same file (size, last modified, block size) are stable across attempts, so that
+            // uncommitted blocks staged by an interrupted attempt can be reused.
+            final String fingerprint = hex(md5(String.format("%s:%s:%s", size, Files.getLastModifiedTime(source).toMillis(), blockSize)
+                .getBytes(StandardCharsets.UTF_8))).substring(0, 16);
+            final List<String> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(Base64.getEncoder().encodeToString(String.format("%s-%06d", fingerprint, i).getBytes(StandardCharsets.UTF_8)));
+            }
+            final Map<String, Long> staged = getUncommittedBlocks(client);
+            final AtomicLong transferred = new AtomicLong();
+            for (int i = 0; i < count; i++) {
+                if (Objects.equals(staged.get(ids.get(i)), blockLength(i, blockSize, size))) {
+                    transferred.addAndGet(blockLength(i, blockSize, size));
+                }
+            }
+            if (transferred.get() > 0) {
+                log.debug("resume uploading {} from {} bytes.", source, transferred.get());
+            }
+            options.notifyProgress(transferred.get(), size);
+            try (final FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                Flux.range(0, count)
+                    .filter(i -> !Objects.equals(staged.get(ids.get(i)), blockLength(i, blockSize, size)))
+                    .flatMap(i -> Mono.fromRunnable(() -> {
+                        final byte[] data = read(channel, i * blockSize, (int) blockLength(i, blockSize, size));
+                        final byte[] md5 = options.isVerifyMd5() ? md5(data) : null;
+                        client.stageBlockWithResponse(ids.get(i), new ByteArrayInputStream(data), data.length, md5, null, null, Context.NONE);
+                        options.notifyProgress(transferred.addAndGet(data.length), size);
+                    }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, options.getConcurrency()))
+                    .blockLast();
+            }
+            final BlobHttpHeaders headers = new BlobHttpHeaders();
+            if (options.isVerifyMd5()) {
+                headers.setContentMd5(md5(source));
+            }
+            final BlobRequestConditions conditions = overwrite ? null : new BlobRequestConditions().setIfNoneMatch("*");
+            client.commitBlockListWithResponse(new BlockBlobCommitBlockListOptions(ids).setHeaders(headers).setRequestConditions(conditions), null, Context.NONE);
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to upload file (%s).", source), e);
+        }
+    }
+
+    static void download(@Nonnull BlobClient client, @Nonnull Path dest, @Nonnull TransferOptions options) {
+        final Path part = dest.resolveSibling(dest.getFileName() + PART_SUFFIX);
+        final Path stateFile = dest.resolveSibling(dest.getFileName() + STATE_SUFFIX);
+        try {
+            final BlobProperties properties = client.getProperties();
+            final long size = properties.getBlobSize();
+            final byte[] expected = properties.getContentMd5();
+            // blobs uploaded without Content-MD5 (e.g. by other tools) are verified range by range, so ranges are
+            // limited to the size the service computes MD5 of.
+            final boolean verifyRanges = options.isVerifyMd5() && Objects.isNull(expected);
+            final long requested = checkBlockSize(Math.max(1, options.getBlockSize()));
+            final long blockSize = verifyRanges ? Math.min(MAX_RANGE_MD5_SIZE, requested) : requested;
+            final int count = blockCount(size, blockSize);
+            final DownloadState state = loadState(stateFile, part, properties.getETag(), size, blockSize);
+            final Set<Integer> done = new HashSet<>(state.getRanges());
+            final AtomicLong transferred = new AtomicLong();
+            done.forEach(i -> transferred.addAndGet(blockLength(i, blockSize, size)));
+            if (transferred.get() > 0) {
+                log.debug("resume downloading {} from {} bytes.", dest, transferred.get());
+            }
+            options.notifyProgress(transferred.get(), size);
+            try (final RandomAccessFile file = new RandomAccessFile(part.toFile(), "rw")) {
+                file.setLength(size);
+                final FileChannel channel = file.getChannel();
+                final BlobRequestConditions conditions = new BlobRequestConditions().setIfMatch(properties.getETag());
+                final DownloadRetryOptions retry = new DownloadRetryOptions().setMaxRetryRequests(3);
+                Flux.range(0, count)
+                    .filter(i -> !done.contains(i))
+                    .flatMap(i -> Mono.fromRunnable(() -> {
+                        final long length = blockLength(i, blockSize, size);
+                        final ByteArrayOutputStream output = new ByteArrayOutputStream((int) length);
+                        final BlobDownloadResponse response = client.downloadStreamWithResponse(output,
+                            new BlobRange(i * blockSize, length), retry, conditions, verifyRanges, null, Context.NONE);
+                        final byte[] data = output.toByteArray();
+                        if (verifyRanges && !Arrays.equals(response.getDeserializedHeaders().getContentMd5(), md5(data))) {
+                            throw new AzureToolkitRuntimeException(String.format("MD5 of downloaded range (%s) of file (%s) doesn't match the blob, please try again.", i, dest));
+                        }
+                        write(channel, data, i * blockSize);
+                        state.complete(i, stateFile);
+                        options.notifyProgress(transferred.addAndGet(length), size);
+                    }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, options.getConcurrency()))
+                    .blockLast();
+                channel.force(false);
+            }
+            if (options.isVerifyMd5() && Objects.nonNull(expected) && !Arrays.equals(expected, md5(part))) {
+                Files.deleteIfExists(part);
+                Files.deleteIfExists(stateFile);
+                throw new AzureToolkitRuntimeException(String.format("MD5 of downloaded file (%s) doesn't match the blob, please try again.", dest));
+            }
+            Files.move(part, dest, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(stateFile);
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to download blob to (%s).", dest), e);
+        }
+    }
+
+    @Nonnull
+    private static Map<String, Long> getUncommittedBlocks(@Nonnull BlockBlobClient client) {
+        final Map<String, Long> result = new HashMap<>();
+        try {
+            for (final Block block : client.listBlocks(BlockListType.UNCOMMITTED).getUncommittedBlocks()) {
+                result.put(block.getName(), block.getSizeLong());
+            }
+        } catch (final BlobStorageException e) { // blob doesn't exist
+            log.debug("no uncommitted blocks of blob {}.", client.getBlobName());
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static DownloadState loadState(@Nonnull Path stateFile, @Nonnull Path part, String eTag, long size, long blockSize) throws IOException {
+        final DownloadState state = Files.isRegularFile(stateFile) && Files.isRegularFile(part) ?
+            JsonUtils.readFromJsonFile(stateFile.toFile(), DownloadState.class) : null;
+        if (Objects.nonNull(state) && Objects.equals(state.getETag(), eTag) && state.getSize() == size && state.getBlockSize() == blockSize) {
+            return state;
+        }
+        // blob is changed or the previous download is not resumable.
+        Files.deleteIfExists(part);
+        final DownloadState fresh = new DownloadState();
+        fresh.setETag(eTag);
+        fresh.setSize(size);
+        fresh.setBlockSize(blockSize);
+        return fresh;
+    }
+
+    private static long checkBlockSize(long blockSize) {
+        if (blockSize > MAX_BLOCK_SIZE) {
+            throw new AzureToolkitRuntimeException(String.format("block size (%s bytes) exceeds the maximum (%s bytes).", blockSize, MAX_BLOCK_SIZE));
+        }
+        return blockSize;
+    }
+
+    private static int blockCount(long size, long blockSize) {
+        final long count = (size + blockSize - 1) / blockSize;
+        if (count > Integer.MAX_VALUE) {
+            throw new AzureToolkitRuntimeException(String.format("block size (%s bytes) is too small for %s bytes.", blockSize, size));
+        }
+        return (int) count;
+    }
+
+    private static long blockLength(int index, long blockSize, long size) {
+        return Math.min(blockSize, size - index * blockSize);
+    }
+
+    @Nonnull
+    private static byte[] read(@Nonnull FileChannel channel, long position, int length) {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("unexpected end of file.");
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    private static void write(@Nonnull FileChannel channel, @Nonnull byte[] data, long position) {
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nonnull
+    static byte[] md5(@Nonnull Path file) throws IOException {
+        final MessageDigest digest = newMd5();
+        final byte[] buffer = new byte[64 * 1024];
+        try (final InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    @Nonnull
+    static byte[] md5(@Nonnull byte[] data) {
+        return newMd5().digest(data);
+    }
+
+    @Nonnull
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AzureToolkitRuntimeException(e);
+        }
+    }
+
+    @Nonnull
+    private static String hex(@Nonnull byte[] bytes) {
+        final StringBuilder builder = new StringBuilder();
+        for (final byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    @Getter
+    @Setter
+    static class DownloadState {
+        @Nullable
+        private String eTag;
+        private long size;
+        private long blockSize;
+        private Set<Integer> ranges = new TreeSet<>();
+
+        synchronized void complete(int range, @Nonnull Path stateFile) {
+            this.ranges.add(range);
+            try {
+                JsonUtils.writeToJsonFile(stateFile.toFile(), this);
+            } catch (final IOException e) {
+                log.debug("failed to save download state to {}.", stateFile, e);
+            }
+        }
+    }
+}
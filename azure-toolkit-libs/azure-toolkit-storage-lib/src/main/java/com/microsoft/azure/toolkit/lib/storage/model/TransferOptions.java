@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.storage.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.annotation.Nullable;
+
+/**
+ * options of uploading/downloading storage files, files are transferred in blocks (ranges) in parallel.
+ */
+@Getter
+@Setter
+@Builder
+public class TransferOptions {
+    public static final long DEFAULT_BLOCK_SIZE = 8L * 1024 * 1024;
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    @Builder.Default
+    private long blockSize = DEFAULT_BLOCK_SIZE;
+    @Builder.Default
+    private int concurrency = DEFAULT_CONCURRENCY;
+    /**
+     * verify MD5 of every block and of the whole file.
+     */
+    @Builder.Default
+    private boolean verifyMd5 = true;
+    @Nullable
+    private ProgressListener progressListener;
+
+    public static TransferOptions defaults() {
+        return TransferOptions.builder().build();
+    }
+
+    public void notifyProgress(long transferred, long total) {
+        if (this.progressListener != null) {
+            this.progressListener.onProgress(transferred, total);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param transferred bytes transferred so far, including bytes transferred before resuming.
+         */
+        void onProgress(long transferred, long total);
+    }
+}
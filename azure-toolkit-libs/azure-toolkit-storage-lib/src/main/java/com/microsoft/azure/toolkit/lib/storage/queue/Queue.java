@@ -5,18 +5,32 @@
 
 package com.microsoft.azure.toolkit.lib.storage.queue;
 
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.queue.QueueClient;
+import com.azure.storage.queue.models.PeekedMessageItem;
+import com.azure.storage.queue.models.QueueMessageItem;
+import com.azure.storage.queue.models.SendMessageResult;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.storage.StorageAccount;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class Queue extends AbstractEmulatableAzResource<Queue, StorageAccount, QueueClient>
     implements Deletable {
+    private static final int MAX_MESSAGES_PER_REQUEST = 32;
 
     protected Queue(@Nonnull String name, @Nonnull QueueModule module) {
         super(name, module);
@@ -44,4 +58,62 @@ public class Queue extends AbstractEmulatableAzResource<Queue, StorageAccount, Q
     protected String loadStatus(@Nonnull QueueClient remote) {
         return "";
     }
+
+    /**
+     * send messages concurrently.
+     *
+     * @param visibilityTimeout messages are invisible until the timeout is reached, visible immediately if {@code null}.
+     * @param timeToLive        default (7 days) if {@code null}.
+     */
+    @Nonnull
+    @AzureOperation(name = "azure/storage.send_queue_messages.queue", params = {"this.getName()"})
+    public List<SendMessageResult> sendMessages(@Nonnull List<String> messages, @Nullable Duration visibilityTimeout,
+                                                @Nullable Duration timeToLive, int concurrency) {
+        final QueueClient client = this.getClient();
+        return Flux.fromIterable(messages)
+            .flatMapSequential(m -> Mono.fromCallable(() -> client.sendMessageWithResponse(BinaryData.fromString(m), visibilityTimeout, timeToLive, null, Context.NONE).getValue())
+                .subscribeOn(Schedulers.boundedElastic()), Math.max(1, concurrency))
+            .collectList().blockOptional().orElse(Collections.emptyList());
+    }
+
+    /**
+     * receive up to {@code maxMessages} messages with concurrent requests (up to 32 messages per request), received
+     * messages are invisible to other consumers until {@code visibilityTimeout} and should be deleted after processed,
+     * see {@link #deleteMessages(List, int)}.
+     */
+    @Nonnull
+    @AzureOperation(name = "azure/storage.receive_queue_messages.queue", params = {"this.getName()"})
+    public List<QueueMessageItem> receiveMessages(int maxMessages, @Nullable Duration visibilityTimeout, int concurrency) {
+        final QueueClient client = this.getClient();
+        final int requests = (maxMessages + MAX_MESSAGES_PER_REQUEST - 1) / MAX_MESSAGES_PER_REQUEST;
+        return Flux.range(0, requests)
+            .flatMap(i -> Mono.fromCallable(() -> {
+                final int count = Math.min(MAX_MESSAGES_PER_REQUEST, maxMessages - i * MAX_MESSAGES_PER_REQUEST);
+                return client.receiveMessages(count, visibilityTimeout, null, Context.NONE).stream().collect(Collectors.toList());
+            }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, concurrency))
+            .flatMapIterable(m -> m)
+            .collectList().blockOptional().orElse(Collections.emptyList());
+    }
+
+    /**
+     * peek up to 32 messages without changing their visibility.
+     */
+    @Nonnull
+    public List<PeekedMessageItem> peekMessages(int maxMessages) {
+        return this.getClient().peekMessages(Math.min(maxMessages, MAX_MESSAGES_PER_REQUEST), null, Context.NONE).stream().collect(Collectors.toList());
+    }
+
+    @AzureOperation(name = "azure/storage.delete_queue_messages.queue", params = {"this.getName()"})
+    public void deleteMessages(@Nonnull List<QueueMessageItem> messages, int concurrency) {
+        final QueueClient client = this.getClient();
+        Flux.fromIterable(messages)
+            .flatMap(m -> Mono.fromRunnable(() -> client.deleteMessage(m.getMessageId(), m.getPopReceipt()))
+                .subscribeOn(Schedulers.boundedElastic()), Math.max(1, concurrency))
+            .blockLast();
+    }
+
+    @Nonnull
+    private QueueClient getClient() {
+        return this.remoteOptional().orElseThrow(() -> new AzureToolkitRuntimeException(String.format("Queue (%s) doesn't exist.", this.getName())));
+    }
 }
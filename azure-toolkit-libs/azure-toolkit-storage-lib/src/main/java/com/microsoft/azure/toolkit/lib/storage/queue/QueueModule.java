@@ -28,25 +28,19 @@ import java.util.stream.Stream;
 public class QueueModule extends AbstractEmulatableAzResourceModule<Queue, StorageAccount, QueueClient> {
 
     public static final String NAME = "Azure.Queue";
-    private QueueServiceClient client;
 
     public QueueModule(@Nonnull StorageAccount parent) {
         super(NAME, parent);
     }
 
-    @Override
-    protected void invalidateCache() {
-        super.invalidateCache();
-        this.client = null;
-    }
-
     @Nullable
-    synchronized QueueServiceClient getQueueServiceClient() {
-        if (Objects.isNull(this.client) && this.parent.exists()) {
-            final String connectionString = this.parent.getConnectionString();
-            this.client = new QueueServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient();
+    QueueServiceClient getQueueServiceClient() {
+        if (!this.parent.exists()) {
+            return null;
         }
-        return this.client;
+        // service clients are cached by the storage account and shared by copies of it.
+        return this.parent.getServiceClient(QueueServiceClient.class, connectionString ->
+            new QueueServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient());
     }
 
     @Nonnull
@@ -8,9 +8,11 @@ package com.microsoft.azure.toolkit.lib.storage.share;
 import com.azure.storage.file.share.ShareDirectoryClient;
 import com.azure.storage.file.share.models.ShareFileItem;
 import com.azure.storage.file.share.models.ShareFileItemProperties;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 
 import javax.annotation.Nonnull;
@@ -87,10 +89,35 @@ public class ShareFile extends AbstractEmulatableAzResource<ShareFile, IShareFil
 
     @Override
     public void download(Path dest) {
+        this.download(dest, TransferOptions.defaults());
+    }
+
+    /**
+     * download in parallel ranges, or download recursively into {@code dest} if this is a directory, files whose size
+     * and last modified time are the same as the remote ones are skipped.
+     */
+    public void download(@Nonnull Path dest, @Nonnull TransferOptions options) {
         final ShareDirectoryClient parentClient = (ShareDirectoryClient) this.getParent().getClient();
-        if (!this.isDirectory() && Objects.nonNull(parentClient) && this.exists()) {
-            parentClient.getFileClient(this.getName()).downloadToFile(dest.toAbsolutePath().toString());
+        if (Objects.nonNull(parentClient) && this.exists()) {
+            if (this.isDirectory()) {
+                ShareTransfer.downloadDirectory(parentClient.getSubdirectoryClient(this.getName()), dest.toAbsolutePath(), options);
+            } else {
+                ShareTransfer.downloadFile(parentClient.getFileClient(this.getName()), dest.toAbsolutePath(), options);
+            }
+        }
+    }
+
+    /**
+     * upload files in {@code source} recursively into this directory, files whose size and last modified time are the
+     * same as the remote ones are skipped.
+     */
+    public void upload(@Nonnull Path source, @Nonnull TransferOptions options) {
+        final ShareDirectoryClient parentClient = (ShareDirectoryClient) this.getParent().getClient();
+        if (!this.isDirectory() || Objects.isNull(parentClient) || !this.exists()) {
+            throw new AzureToolkitRuntimeException(String.format("directory (%s) doesn't exist.", this.getName()));
         }
+        ShareTransfer.uploadDirectory(parentClient.getSubdirectoryClient(this.getName()), source, options);
+        this.getSubFileModule().refresh();
     }
 
     @Override
@@ -16,12 +16,13 @@ import com.microsoft.azure.toolkit.lib.common.messager.AzureMessager;
 import com.microsoft.azure.toolkit.lib.common.messager.IAzureMessager;
 import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.storage.model.StorageFile;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.io.FileUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +35,9 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
     private Boolean directory;
     @Setter
     private Path sourceFile;
+    @Setter
+    @Nullable
+    private TransferOptions transferOptions;
 
     ShareFileDraft(@Nonnull String name, @Nonnull ShareFileModule module) {
         super(name, module);
@@ -62,7 +66,11 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
         final IAzureMessager messager = AzureMessager.getMessager();
         if (this.isDirectory()) {
             messager.info(AzureString.format("Start creating directory ({0}).", this.getName()));
-            client.createSubdirectory(this.getName());
+            final ShareDirectoryClient dirClient = client.createSubdirectory(this.getName());
+            if (Objects.nonNull(this.sourceFile) && Files.isDirectory(this.sourceFile)) {
+                messager.info(AzureString.format("Start uploading files in directory ({0}).", this.sourceFile.getFileName()));
+                ShareTransfer.uploadDirectory(dirClient, this.sourceFile, this.getTransferOptions());
+            }
             final Action<StorageFile> createFile = AzureActionManager.getInstance().getAction(CREATE_FILE).bind(this);
             final Action<StorageFile> createDir = AzureActionManager.getInstance().getAction(CREATE_DIRECTORY).bind(this);
             final Action<StorageFile> upload = AzureActionManager.getInstance().getAction(UPLOAD_FILES).bind(this);
@@ -70,7 +78,7 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
         } else {
             if (Objects.nonNull(sourceFile)) {
                 messager.info(AzureString.format("Start uploading file ({0}).", sourceFile.getFileName()));
-                client.createFile(this.getName(), FileUtils.sizeOf(sourceFile.toFile())).uploadFromFile(sourceFile.toString());
+                ShareTransfer.uploadFile(client.getFileClient(this.getName()), this.sourceFile, this.getTransferOptions());
                 final Action<StorageFile> open = AzureActionManager.getInstance().getAction(OPEN_FILE).bind(this);
                 messager.success(AzureString.format("File ({0}) is successfully uploaded.", sourceFile.getFileName()), open);
             } else {
@@ -96,14 +104,18 @@ public class ShareFileDraft extends ShareFile implements StorageFile.Draft<Share
         if (Objects.nonNull(this.sourceFile)) {
             final IAzureMessager messager = AzureMessager.getMessager();
             messager.info(AzureString.format("Start updating file ({0})", this.getName()));
-            client.deleteIfExists();
-            client.create(FileUtils.sizeOf(sourceFile.toFile()));
-            client.uploadFromFile(this.sourceFile.toString());
+            // re-creating the file truncates and resizes it.
+            ShareTransfer.uploadFile(client, this.sourceFile, this.getTransferOptions());
             messager.success(AzureString.format("File ({0}) is successfully updated.", this.getName()));
         }
         return Objects.requireNonNull(module.loadResourceFromAzure(this.getName(), this.getParent().getResourceGroupName()));
     }
 
+    @Nonnull
+    private TransferOptions getTransferOptions() {
+        return Optional.ofNullable(this.transferOptions).orElseGet(TransferOptions::defaults);
+    }
+
     @Override
     public boolean isDirectory() {
         return Optional.ofNullable(this.directory).orElseGet(super::isDirectory);
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 public class ShareFileModule extends AbstractEmulatableAzResourceModule<ShareFile, IShareFile, ShareFileItem> {
 
     public static final String NAME = "file";
+    private static final int DELETE_CONCURRENCY = 8;
 
     public ShareFileModule(@Nonnull IShareFile parent) {
         super(NAME, parent);
@@ -67,15 +68,7 @@ public class ShareFileModule extends AbstractEmulatableAzResourceModule<ShareFil
     }
 
     private void deleteDirectory(ShareDirectoryClient client) {
-        final PagedIterable<ShareFileItem> files = client.listFilesAndDirectories();
-        for (ShareFileItem file : files) {
-            if (file.isDirectory()) {
-                deleteDirectory(client.getSubdirectoryClient(file.getName()));
-            } else {
-                client.getFileClient(file.getName()).delete();
-            }
-        }
-        client.deleteIfExists();
+        ShareTransfer.deleteDirectory(client, DELETE_CONCURRENCY);
     }
 
     @Nonnull
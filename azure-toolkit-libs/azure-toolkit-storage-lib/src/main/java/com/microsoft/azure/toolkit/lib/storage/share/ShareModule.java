@@ -26,25 +26,19 @@ import java.util.stream.Stream;
 public class ShareModule extends AbstractEmulatableAzResourceModule<Share, StorageAccount, ShareClient> {
 
     public static final String NAME = "Azure.FileShare";
-    private ShareServiceClient client;
 
     public ShareModule(@Nonnull StorageAccount parent) {
         super(NAME, parent);
     }
 
-    @Override
-    protected void invalidateCache() {
-        super.invalidateCache();
-        this.client = null;
-    }
-
     @Nullable
-    synchronized ShareServiceClient getFileShareServiceClient() {
-        if (Objects.isNull(this.client) && this.parent.exists()) {
-            final String connectionString = this.parent.getConnectionString();
-            this.client = new ShareServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient();
+    ShareServiceClient getFileShareServiceClient() {
+        if (!this.parent.exists()) {
+            return null;
         }
-        return this.client;
+        // service clients are cached by the storage account and shared by copies of it.
+        return this.parent.getServiceClient(ShareServiceClient.class, connectionString ->
+            new ShareServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient());
     }
 
     @Nonnull
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package com.microsoft.azure.toolkit.lib.storage.share;
+
+import com.azure.core.util.Context;
+import com.azure.storage.file.share.FileSmbProperties;
+import com.azure.storage.file.share.ShareDirectoryClient;
+import com.azure.storage.file.share.ShareFileClient;
+import com.azure.storage.file.share.models.ShareFileItem;
+import com.azure.storage.file.share.models.ShareFileItemProperties;
+import com.azure.storage.file.share.models.ShareFileProperties;
+import com.azure.storage.file.share.models.ShareFileRange;
+import com.azure.storage.file.share.models.ShareStorageException;
+import com.azure.storage.file.share.options.ShareFileUploadRangeOptions;
+import com.azure.storage.file.share.options.ShareListFilesAndDirectoriesOptions;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
+import com.microsoft.azure.toolkit.lib.storage.model.TransferOptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * parallel range transfer of share files, and recursive upload/download/delete of share directories. recursive
+ * transfers skip files whose size and last write time already match, the last write time of the target is set
+ * to the one of the source after transferring.
+ */
+@Slf4j
+class ShareTransfer {
+    /**
+     * max size of a range, limited by the service.
+     */
+    private static final long MAX_RANGE_SIZE = 4L * 1024 * 1024;
+
+    static void uploadFile(@Nonnull ShareFileClient client, @Nonnull Path source, @Nonnull TransferOptions options) {
+        try {
+            final long size = Files.size(source);
+            uploadFile(client, source, size, options, Math.max(1, options.getConcurrency()), new AtomicLong(), size);
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to upload file (%s).", source), e);
+        }
+    }
+
+    static void downloadFile(@Nonnull ShareFileClient client, @Nonnull Path dest, @Nonnull TransferOptions options) {
+        final ShareFileProperties properties = client.getProperties();
+        final long size = properties.getContentLength();
+        downloadFile(client, dest, size, properties.getSmbProperties().getFileLastWriteTime(), options, Math.max(1, options.getConcurrency()), new AtomicLong(), size);
+    }
+
+    /**
+     * upload files in {@code source} recursively into {@code dir}, files transferred concurrently (ranges of each file
+     * sequentially, so that at most {@code concurrency} requests are in flight and no pooled thread waits for another).
+     */
+    static void uploadDirectory(@Nonnull ShareDirectoryClient dir, @Nonnull Path source, @Nonnull TransferOptions options) {
+        final List<Path> files = new ArrayList<>();
+        final List<Path> dirs = new ArrayList<>();
+        try (final Stream<Path> paths = Files.walk(source)) {
+            paths.filter(p -> !p.equals(source)).forEach(p -> (Files.isDirectory(p) ? dirs : files).add(p));
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to list files in (%s).", source), e);
+        }
+        dir.createIfNotExists();
+        // parents are walked before children.
+        dirs.forEach(d -> getDirectoryClient(dir, source.relativize(d)).createIfNotExists());
+        final Map<Path, Map<String, ShareFileItem>> remotes = new HashMap<>();
+        final List<Path> changed = files.stream().filter(f -> {
+            final Path relative = source.relativize(f);
+            final Map<String, ShareFileItem> remote = remotes.computeIfAbsent(relative.getParent(), p -> listFiles(getDirectoryClient(dir, p)));
+            return !isSame(f, remote.get(f.getFileName().toString()));
+        }).collect(Collectors.toList());
+        final long total = changed.stream().mapToLong(ShareTransfer::sizeOf).sum();
+        final AtomicLong transferred = new AtomicLong();
+        log.debug("uploading {} of {} files in {}.", changed.size(), files.size(), source);
+        Flux.fromIterable(changed)
+            .flatMap(f -> Mono.fromRunnable(() -> {
+                final ShareFileClient client = getFileClient(dir, source.relativize(f));
+                uploadFile(client, f, sizeOf(f), options, 1, transferred, total);
+            }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, options.getConcurrency()))
+            .blockLast();
+    }
+
+    /**
+     * download files in {@code dir} recursively into {@code dest}, files transferred concurrently (ranges of each file
+     * sequentially).
+     */
+    static void downloadDirectory(@Nonnull ShareDirectoryClient dir, @Nonnull Path dest, @Nonnull TransferOptions options) {
+        final List<RemoteFile> files = new ArrayList<>();
+        listRecursively(dir, dest, files, new ArrayList<>());
+        final List<RemoteFile> changed = files.stream()
+            .filter(f -> !isSame(f.local, f.item))
+            .collect(Collectors.toList());
+        final long total = changed.stream().mapToLong(f -> f.item.getFileSize()).sum();
+        final AtomicLong transferred = new AtomicLong();
+        log.debug("downloading {} of {} files in {}.", changed.size(), files.size(), dir.getDirectoryPath());
+        Flux.fromIterable(changed)
+            .flatMap(f -> Mono.fromRunnable(() -> {
+                final OffsetDateTime lastWriteTime = Optional.ofNullable(f.item.getProperties()).map(ShareFileItemProperties::getLastWriteTime).orElse(null);
+                downloadFile(f.client.getFileClient(f.item.getName()), Objects.requireNonNull(f.local), f.item.getFileSize(), lastWriteTime, options, 1, transferred, total);
+            }).subscribeOn(Schedulers.boundedElastic()), Math.max(1, options.getConcurrency()))
+            .blockLast();
+    }
+
+    /**
+     * delete files in {@code dir} recursively in parallel, then the (empty) directories from the deepest.
+     */
+    static void deleteDirectory(@Nonnull ShareDirectoryClient dir, int concurrency) {
+        final List<RemoteFile> files = new ArrayList<>();
+        final List<ShareDirectoryClient> dirs = new ArrayList<>();
+        listRecursively(dir, null, files, dirs);
+        Flux.fromIterable(files)
+            .flatMap(f -> Mono.fromRunnable(() -> f.client.deleteFileIfExists(f.item.getName()))
+                .subscribeOn(Schedulers.boundedElastic()), concurrency)
+            .blockLast();
+        final Map<Integer, List<ShareDirectoryClient>> levels = dirs.stream()
+            .collect(Collectors.groupingBy(d -> depth(d.getDirectoryPath())));
+        levels.keySet().stream().sorted(Comparator.reverseOrder()).forEach(level -> Flux.fromIterable(levels.get(level))
+            .flatMap(d -> Mono.fromRunnable(d::deleteIfExists).subscribeOn(Schedulers.boundedElastic()), concurrency)
+            .blockLast());
+        dir.deleteIfExists();
+    }
+
+    private static void uploadFile(@Nonnull ShareFileClient client, @Nonnull Path source, long size, @Nonnull TransferOptions options,
+                                   int concurrency, @Nonnull AtomicLong transferred, long total) {
+        try {
+            client.create(size);
+            final long rangeSize = getRangeSize(options);
+            final int count = (int) ((size + rangeSize - 1) / rangeSize);
+            try (final FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                transferRanges(count, concurrency, i -> {
+                    final long offset = i * rangeSize;
+                    final int length = (int) Math.min(rangeSize, size - offset);
+                    final byte[] data = read(channel, offset, length);
+                    client.uploadRangeWithResponse(new ShareFileUploadRangeOptions(new ByteArrayInputStream(data), length).setOffset(offset), null, Context.NONE);
+                    options.notifyProgress(transferred.addAndGet(length), total);
+                });
+            }
+            final OffsetDateTime lastWriteTime = Files.getLastModifiedTime(source).toInstant().atOffset(ZoneOffset.UTC);
+            client.setProperties(size, null, new FileSmbProperties().setFileLastWriteTime(lastWriteTime), null);
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to upload file (%s).", source), e);
+        }
+    }
+
+    private static void downloadFile(@Nonnull ShareFileClient client, @Nonnull Path dest, long size, @Nullable OffsetDateTime lastWriteTime,
+                                     @Nonnull TransferOptions options, int concurrency, @Nonnull AtomicLong transferred, long total) {
+        try {
+            Files.createDirectories(dest.toAbsolutePath().getParent());
+            final long rangeSize = getRangeSize(options);
+            final int count = (int) ((size + rangeSize - 1) / rangeSize);
+            try (final RandomAccessFile file = new RandomAccessFile(dest.toFile(), "rw")) {
+                file.setLength(size);
+                final FileChannel channel = file.getChannel();
+                transferRanges(count, concurrency, i -> {
+                    final long offset = i * rangeSize;
+                    final long length = Math.min(rangeSize, size - offset);
+                    final ByteArrayOutputStream output = new ByteArrayOutputStream((int) length);
+                    client.downloadWithResponse(output, new ShareFileRange(offset, offset + length - 1), false, null, Context.NONE);
+                    write(channel, output.toByteArray(), offset);
+                    options.notifyProgress(transferred.addAndGet(length), total);
+                });
+            }
+            if (Objects.nonNull(lastWriteTime)) {
+                Files.setLastModifiedTime(dest, FileTime.from(lastWriteTime.toInstant()));
+            }
+        } catch (final IOException e) {
+            throw new AzureToolkitRuntimeException(String.format("failed to download file to (%s).", dest), e);
+        }
+    }
+
+    /**
+     * ranges are transferred on the calling thread if {@code concurrency} is 1, e.g. when the file itself is
+     * transferred on a pooled thread.
+     */
+    private static void transferRanges(int count, int concurrency, @Nonnull IntConsumer transfer) {
+        if (concurrency <= 1) {
+            for (int i = 0; i < count; i++) {
+                transfer.accept(i);
+            }
+            return;
+        }
+        Flux.range(0, count)
+            .flatMap(i -> Mono.fromRunnable(() -> transfer.accept(i)).subscribeOn(Schedulers.boundedElastic()), concurrency)
+            .blockLast();
+    }
+
+    private static void listRecursively(@Nonnull ShareDirectoryClient dir, @Nullable Path local, @Nonnull List<RemoteFile> files,
+                                        @Nonnull List<ShareDirectoryClient> dirs) {
+        for (final ShareFileItem item : listFiles(dir).values()) {
+            final Path itemLocal = Objects.isNull(local) ? null : local.resolve(item.getName());
+            if (item.isDirectory()) {
+                final ShareDirectoryClient sub = dir.getSubdirectoryClient(item.getName());
+                dirs.add(sub);
+                listRecursively(sub, itemLocal, files, dirs);
+            } else {
+                files.add(new RemoteFile(dir, item, itemLocal));
+            }
+        }
+    }
+
+    @Nonnull
+    private static Map<String, ShareFileItem> listFiles(@Nonnull ShareDirectoryClient dir) {
+        try {
+            final ShareListFilesAndDirectoriesOptions options = new ShareListFilesAndDirectoriesOptions().setIncludeTimestamps(true);
+            return dir.listFilesAndDirectories(options, null, Context.NONE).stream()
+                .collect(Collectors.toMap(ShareFileItem::getName, i -> i, (a, b) -> a));
+        } catch (final ShareStorageException e) {
+            if (e.getStatusCode() == 404) {
+                return new HashMap<>();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isSame(@Nullable Path local, @Nullable ShareFileItem remote) {
+        if (Objects.isNull(local) || Objects.isNull(remote) || remote.isDirectory() || !Files.isRegularFile(local)) {
+            return false;
+        }
+        final OffsetDateTime remoteTime = Optional.ofNullable(remote.getProperties()).map(ShareFileItemProperties::getLastWriteTime).orElse(null);
+        try {
+            return Objects.nonNull(remoteTime) && Objects.equals(remote.getFileSize(), Files.size(local)) &&
+                remoteTime.toInstant().toEpochMilli() == Files.getLastModifiedTime(local).toMillis();
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    @Nonnull
+    private static ShareDirectoryClient getDirectoryClient(@Nonnull ShareDirectoryClient root, @Nullable Path relative) {
+        ShareDirectoryClient client = root;
+        if (Objects.nonNull(relative)) {
+            for (final Path name : relative) {
+                client = client.getSubdirectoryClient(name.toString());
+            }
+        }
+        return client;
+    }
+
+    @Nonnull
+    private static ShareFileClient getFileClient(@Nonnull ShareDirectoryClient root, @Nonnull Path relative) {
+        return getDirectoryClient(root, relative.getParent()).getFileClient(relative.getFileName().toString());
+    }
+
+    private static long getRangeSize(@Nonnull TransferOptions options) {
+        return Math.max(1, Math.min(options.getBlockSize(), MAX_RANGE_SIZE));
+    }
+
+    private static long sizeOf(@Nonnull Path file) {
+        try {
+            return Files.size(file);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int depth(@Nonnull String path) {
+        return path.split("/").length;
+    }
+
+    @Nonnull
+    private static byte[] read(@Nonnull FileChannel channel, long position, int length) {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("unexpected end of file.");
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    private static void write(@Nonnull FileChannel channel, @Nonnull byte[] data, long position) {
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class RemoteFile {
+        @Nonnull
+        private final ShareDirectoryClient client;
+        @Nonnull
+        private final ShareFileItem item;
+        @Nullable
+        private final Path local;
+    }
+}
@@ -5,18 +5,33 @@
 
 package com.microsoft.azure.toolkit.lib.storage.table;
 
+import com.azure.core.util.Context;
 import com.azure.data.tables.TableClient;
+import com.azure.data.tables.models.ListEntitiesOptions;
+import com.azure.data.tables.models.TableEntity;
+import com.azure.data.tables.models.TableTransactionAction;
+import com.azure.data.tables.models.TableTransactionActionType;
+import com.microsoft.azure.toolkit.lib.common.exception.AzureToolkitRuntimeException;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractAzResourceModule;
 import com.microsoft.azure.toolkit.lib.common.model.AbstractEmulatableAzResource;
 import com.microsoft.azure.toolkit.lib.common.model.Deletable;
+import com.microsoft.azure.toolkit.lib.common.operation.AzureOperation;
 import com.microsoft.azure.toolkit.lib.storage.StorageAccount;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class Table extends AbstractEmulatableAzResource<Table, StorageAccount, TableClient>
     implements Deletable {
+    private static final int MAX_TRANSACTION_SIZE = 100;
 
     protected Table(@Nonnull String name, @Nonnull TableModule module) {
         super(name, module);
@@ -44,4 +59,49 @@ public class Table extends AbstractEmulatableAzResource<Table, StorageAccount, T
     protected String loadStatus(@Nonnull TableClient remote) {
         return "";
     }
+
+    @AzureOperation(name = "azure/storage.upsert_table_entities.table", params = {"this.getName()"})
+    public void upsertEntities(@Nonnull List<TableEntity> entities, int concurrency) {
+        this.submitTransactions(entities, TableTransactionActionType.UPSERT_MERGE, concurrency);
+    }
+
+    @AzureOperation(name = "azure/storage.delete_table_entities.table", params = {"this.getName()"})
+    public void deleteEntities(@Nonnull List<TableEntity> entities, int concurrency) {
+        this.submitTransactions(entities, TableTransactionActionType.DELETE, concurrency);
+    }
+
+    /**
+     * submit actions in transactions of up to 100 entities of the same partition, transactions of the same partition
+     * are submitted in order and different partitions are submitted concurrently.
+     */
+    public void submitTransactions(@Nonnull List<TableEntity> entities, @Nonnull TableTransactionActionType type, int concurrency) {
+        final TableClient client = this.getClient();
+        // an entity can be included only once in a transaction, the last one wins.
+        final Map<String, Map<String, TableEntity>> partitions = new LinkedHashMap<>();
+        entities.forEach(e -> partitions.computeIfAbsent(e.getPartitionKey(), k -> new LinkedHashMap<>()).put(e.getRowKey(), e));
+        Flux.fromIterable(partitions.values())
+            .flatMap(partition -> Flux.fromIterable(partition.values())
+                .map(e -> new TableTransactionAction(type, e))
+                .buffer(MAX_TRANSACTION_SIZE)
+                .concatMap(actions -> Mono.fromRunnable(() -> client.submitTransaction(actions)).subscribeOn(Schedulers.boundedElastic())),
+                Math.max(1, concurrency))
+            .blockLast();
+    }
+
+    /**
+     * query entities lazily page by page.
+     *
+     * @param filter OData filter, e.g. {@code PartitionKey eq 'p1'}, all entities if {@code null}.
+     * @param select properties to return, all properties if {@code null}.
+     */
+    @Nonnull
+    public Stream<TableEntity> queryEntities(@Nullable String filter, @Nullable List<String> select, int pageSize) {
+        final ListEntitiesOptions options = new ListEntitiesOptions().setFilter(filter).setSelect(select).setTop(pageSize);
+        return this.getClient().listEntities(options, null, Context.NONE).stream();
+    }
+
+    @Nonnull
+    private TableClient getClient() {
+        return this.remoteOptional().orElseThrow(() -> new AzureToolkitRuntimeException(String.format("Table (%s) doesn't exist.", this.getName())));
+    }
 }
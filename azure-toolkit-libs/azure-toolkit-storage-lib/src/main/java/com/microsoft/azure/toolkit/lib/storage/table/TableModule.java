@@ -26,25 +26,19 @@ import java.util.stream.Stream;
 public class TableModule extends AbstractEmulatableAzResourceModule<Table, StorageAccount, TableClient> {
 
     public static final String NAME = "Azure.Table";
-    private TableServiceClient client;
 
     public TableModule(@Nonnull StorageAccount parent) {
         super(NAME, parent);
     }
 
-    @Override
-    protected void invalidateCache() {
-        super.invalidateCache();
-        this.client = null;
-    }
-
     @Nullable
-    synchronized TableServiceClient getTableServiceClient() {
-        if (Objects.isNull(this.client) && this.parent.exists()) {
-            final String connectionString = this.parent.getConnectionString();
-            this.client = new TableServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient();
+    TableServiceClient getTableServiceClient() {
+        if (!this.parent.exists()) {
+            return null;
         }
-        return this.client;
+        // service clients are cached by the storage account and shared by copies of it.
+        return this.parent.getServiceClient(TableServiceClient.class, connectionString ->
+            new TableServiceClientBuilder().addPolicy(AbstractAzServiceSubscription.getUserAgentPolicy()).connectionString(connectionString).buildClient());
     }
 
     @Nonnull